@@ -0,0 +1,86 @@
+package com.ostia.productcatalogservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ostia.productcatalogservice.config.CacheConfig;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.model.Category;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import com.ostia.productcatalogservice.service.CategoryImportService;
+import com.ostia.productcatalogservice.service.CategoryService;
+import com.ostia.productcatalogservice.service.CategoryTreeService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared fixtures for the JMH benchmarks: a trimmed-down Spring context with
+ * only the persistence and service layers, a HAL-aware object mapper and a
+ * bound mock request so that link building behaves as it does under MVC.
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Category.class)
+    @EnableJpaRepositories(basePackageClasses = CategoryRepository.class)
+    @Import({CategoryService.class, CategoryTreeService.class, CategoryImportService.class, CacheConfig.class})
+    static class ServiceLayer {
+    }
+
+    static ConfigurableApplicationContext startServiceLayer(String... properties) {
+        return new SpringApplicationBuilder(ServiceLayer.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "eureka.client.enabled=false",
+                        "spring.cloud.discovery.enabled=false")
+                .properties(properties)
+                .run();
+    }
+
+    static void bindRequest() {
+        var request = new MockHttpServletRequest("GET", "/api/v1/categories");
+        request.setScheme("https");
+        request.setServerName("localhost");
+        request.setServerPort(8444);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    static void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    static ObjectMapper halObjectMapper() {
+        var mapper = new ObjectMapper();
+        mapper.registerModule(new Jackson2HalModule());
+        mapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        return mapper;
+    }
+
+    static List<CategoryDTO> categories(int count) {
+        List<CategoryDTO> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            categories.add(new CategoryDTO("Category " + i, "Description of category number " + i));
+        }
+        return categories;
+    }
+}
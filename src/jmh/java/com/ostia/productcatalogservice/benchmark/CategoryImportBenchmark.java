@@ -0,0 +1,78 @@
+package com.ostia.productcatalogservice.benchmark;
+
+import com.ostia.productcatalogservice.dto.BulkImportResult;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.service.CategoryImportService;
+import com.ostia.productcatalogservice.service.CategoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating {@code rows} categories through the bulk import and through one
+ * {@code addCategory} call per row, which is what the per-item POST loop costs
+ * minus the HTTP round trip. Each invocation imports into an empty table.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class CategoryImportBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private CategoryImportService categoryImportService;
+    private CategoryService categoryService;
+    private JdbcTemplate jdbcTemplate;
+    private List<CategoryDTO> categories;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startServiceLayer();
+        categoryImportService = context.getBean(CategoryImportService.class);
+        categoryService = context.getBean(CategoryService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        categories = BenchmarkSupport.categories(rows);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM CATEGORY WHERE name LIKE 'Category %'");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BulkImportResult bulkImport() {
+        return categoryImportService.importCategories(categories);
+    }
+
+    @Benchmark
+    public int perItemAdd() {
+        for (var category : categories) {
+            categoryService.addCategory(category);
+        }
+        return categories.size();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ostia.productcatalogservice.benchmark;
+
+import com.ostia.productcatalogservice.assembler.CategoryModelAssembler;
+import com.ostia.productcatalogservice.controller.CategoryController;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.dto.UpdateCategoryDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.hateoas.EntityModel;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.ostia.productcatalogservice.common.LinkRelation.DELETE;
+import static com.ostia.productcatalogservice.common.LinkRelation.UPDATE;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CategoryModelAssemblerBenchmark {
+
+    private final CategoryModelAssembler assembler = new CategoryModelAssembler();
+    private List<CategoryDTO> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        page = BenchmarkSupport.categories(100);
+        BenchmarkSupport.bindRequest();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.unbindRequest();
+    }
+
+    @Benchmark
+    public EntityModel<CategoryDTO> toModel() {
+        return assembler.toModel(page.get(0));
+    }
+
+    @Benchmark
+    public EntityModel<CategoryDTO> legacyToModel() {
+        return legacyToModel(page.get(0));
+    }
+
+    /**
+     * A fresh request per page, so the per-request base URI resolution is paid once per page as in production.
+     */
+    @Benchmark
+    public void toModelPageOf100(Blackhole blackhole) {
+        BenchmarkSupport.bindRequest();
+        for (CategoryDTO category : page) {
+            blackhole.consume(assembler.toModel(category));
+        }
+    }
+
+    @Benchmark
+    public void legacyToModelPageOf100(Blackhole blackhole) {
+        BenchmarkSupport.bindRequest();
+        for (CategoryDTO category : page) {
+            blackhole.consume(legacyToModel(category));
+        }
+    }
+
+    private static EntityModel<CategoryDTO> legacyToModel(CategoryDTO categoryDTO) {
+        return EntityModel.of(
+                categoryDTO,
+                linkTo(methodOn(CategoryController.class).getCategory(categoryDTO.name(), null, null)).withSelfRel(),
+                linkTo(methodOn(CategoryController.class).deleteCategory(categoryDTO.name(), null)).withRel(DELETE.rel()),
+                linkTo(methodOn(CategoryController.class).updateCategory(categoryDTO.name(), new UpdateCategoryDTO(categoryDTO.description()), null)).withRel(UPDATE.rel())
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package com.ostia.productcatalogservice.benchmark;
+
+import com.ostia.productcatalogservice.model.Category;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Case-insensitive lookup of one category among a million, through the indexed
+ * {@code name_key} column and through the {@code upper(name) = upper(?)} predicate
+ * that derived {@code IgnoreCase} queries used to generate. Setup fails unless the
+ * query plan for the indexed lookup names {@code IDX_CATEGORY_NAME_KEY}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CategoryNameLookupBenchmark {
+
+    private static final int INSERT_BATCH = 5_000;
+
+    @Param({"1000000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private CategoryRepository categoryRepository;
+    private JdbcTemplate jdbcTemplate;
+    private String name;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startServiceLayer();
+        categoryRepository = context.getBean(CategoryRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        insertCategories();
+        name = "CATEGORY " + (size / 2);
+
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM CATEGORY WHERE name_key = LOWER(?)", String.class, name);
+        if (plan == null || !plan.toUpperCase().contains("IDX_CATEGORY_NAME_KEY")) {
+            throw new IllegalStateException("Name lookup does not use the name_key index:\n" + plan);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Category> indexedNameKey() {
+        return categoryRepository.findByNameIgnoreCase(name);
+    }
+
+    @Benchmark
+    public UUID upperCaseScan() {
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM CATEGORY WHERE UPPER(name) = UPPER(?)", UUID.class, name);
+    }
+
+    private void insertCategories() {
+        var now = Timestamp.from(Instant.now());
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+
+        for (int i = 0; i < size; i++) {
+            batch.add(new Object[]{UUID.randomUUID(), now, now, "Category " + i, "Generated category " + i});
+
+            if (batch.size() == INSERT_BATCH || i == size - 1) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO CATEGORY (id, version, created_at, updated_at, name, description)
+                        VALUES (?, 0, ?, ?, ?, ?)
+                        """, batch);
+                batch.clear();
+            }
+        }
+    }
+}
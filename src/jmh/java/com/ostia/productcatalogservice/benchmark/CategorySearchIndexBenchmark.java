@@ -0,0 +1,79 @@
+package com.ostia.productcatalogservice.benchmark;
+
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.search.CategorySearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CategorySearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "audio", "books", "camping", "cycling", "decor", "electronics", "fashion", "games", "garden",
+            "grocery", "health", "kitchen", "lighting", "music", "office", "outdoor", "pets", "photo",
+            "sports", "tools", "toys", "travel", "video", "watches"
+    };
+
+    @Param({"1000000"})
+    public int size;
+
+    private CategorySearchIndex index;
+    private int updates;
+
+    @Setup
+    public void setUp() {
+        index = new CategorySearchIndex(null, null);
+        var random = new SplittableRandom(42);
+        for (int i = 0; i < size; i++) {
+            String name = word(random) + " " + word(random) + " " + Integer.toString(i, 36);
+            index.put(name, "Everything for " + word(random) + " and " + word(random));
+        }
+        singleLetterPrefix();
+        wordPrefix();
+        twoWordAutocomplete();
+    }
+
+    @Benchmark
+    public List<CategoryDTO> singleLetterPrefix() {
+        return index.search("g", 10);
+    }
+
+    @Benchmark
+    public List<CategoryDTO> wordPrefix() {
+        return index.search("kitch", 10);
+    }
+
+    @Benchmark
+    public List<CategoryDTO> twoWordAutocomplete() {
+        return index.search("video ga", 10);
+    }
+
+    /**
+     * Writes keep the cached hits of the queries above up to date.
+     */
+    @Benchmark
+    public void updateWithCachedQueries() {
+        index.put("Garden games", "Everything for video games " + (updates++ & 1));
+    }
+
+    private static String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,86 @@
+package com.ostia.productcatalogservice.benchmark;
+
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.dto.UpdateCategoryDTO;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.mapper.DomainMapper;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import com.ostia.productcatalogservice.service.CategoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full service paths against embedded H2, with and without the category cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CategoryServiceBenchmark {
+
+    private static final int CATALOG_SIZE = 1_000;
+
+    @Param({"caffeine", "none"})
+    public String cacheType;
+
+    private ConfigurableApplicationContext context;
+    private CategoryService categoryService;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startServiceLayer("spring.cache.type=" + cacheType);
+        categoryService = context.getBean(CategoryService.class);
+
+        var repository = context.getBean(CategoryRepository.class);
+        repository.saveAll(BenchmarkSupport.categories(CATALOG_SIZE).stream()
+                .map(DomainMapper::DTOToEntity)
+                .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public VersionedCategoryDTO getCategory() {
+        return categoryService.getCategory("Category 500");
+    }
+
+    @Benchmark
+    public Page<CategoryDTO> getAllCategoriesPageOf100() {
+        return categoryService.getAllCategories(PageRequest.of(3, 100));
+    }
+
+    @Benchmark
+    public void updateCategory() {
+        categoryService.updateCategory("Category 42", new UpdateCategoryDTO("Updated " + sequence++), null);
+    }
+
+    @Benchmark
+    public UUID addThenDeleteCategory() {
+        String name = "Benchmark " + sequence++;
+        UUID id = categoryService.addCategory(new CategoryDTO(name, "Created by the write-path benchmark"));
+        categoryService.deleteCategory(name, null);
+        return id;
+    }
+}
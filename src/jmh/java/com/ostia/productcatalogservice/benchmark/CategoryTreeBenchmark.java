@@ -0,0 +1,108 @@
+package com.ostia.productcatalogservice.benchmark;
+
+import com.ostia.productcatalogservice.dto.CategoryNodeDTO;
+import com.ostia.productcatalogservice.service.CategoryTreeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Subtree, breadcrumb and move on a breadth-first tree with fan-out 9,
+ * so the default 500k nodes span seven levels.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CategoryTreeBenchmark {
+
+    private static final int FAN_OUT = 9;
+    private static final int INSERT_BATCH = 5_000;
+
+    @Param({"500000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private CategoryTreeService categoryTreeService;
+    private String leaf;
+    private boolean movedAway;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startServiceLayer();
+        categoryTreeService = context.getBean(CategoryTreeService.class);
+        insertTree(context.getBean(JdbcTemplate.class));
+        leaf = "Node " + (size - 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CategoryNodeDTO> descendantsOfThirdLevelNode() {
+        return categoryTreeService.getDescendants("Node 91", 64, 1000);
+    }
+
+    @Benchmark
+    public List<CategoryNodeDTO> breadcrumbOfDeepestLeaf() {
+        return categoryTreeService.getAncestors(leaf);
+    }
+
+    @Benchmark
+    public void moveFourthLevelSubtree() {
+        categoryTreeService.moveCategory("Node 820", movedAway ? "Node 91" : "Node 92");
+        movedAway = !movedAway;
+    }
+
+    private void insertTree(JdbcTemplate jdbcTemplate) {
+        var ids = new UUID[size];
+        var paths = new String[size];
+        var depths = new int[size];
+        var now = Timestamp.from(Instant.now());
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+
+        for (int i = 0; i < size; i++) {
+            ids[i] = UUID.randomUUID();
+            UUID parentId = null;
+            if (i == 0) {
+                paths[i] = "/";
+            } else {
+                int parent = (i - 1) / FAN_OUT;
+                parentId = ids[parent];
+                paths[i] = paths[parent] + ids[parent] + "/";
+                depths[i] = depths[parent] + 1;
+            }
+            batch.add(new Object[]{ids[i], now, now, "Node " + i, "Generated tree node " + i, parentId, paths[i], depths[i]});
+
+            if (batch.size() == INSERT_BATCH || i == size - 1) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO CATEGORY (id, version, created_at, updated_at, name, description, parent_id, path, depth)
+                        VALUES (?, 0, ?, ?, ?, ?, ?, ?, ?)
+                        """, batch);
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ostia.productcatalogservice.benchmark;
+
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.mapper.DomainMapper;
+import com.ostia.productcatalogservice.model.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DomainMapperBenchmark {
+
+    private CategoryDTO dto;
+    private Category entity;
+
+    @Setup
+    public void setUp() {
+        dto = new CategoryDTO("Electronics", "Devices, gadgets, and accessories");
+        entity = DomainMapper.DTOToEntity(dto);
+    }
+
+    @Benchmark
+    public Category dtoToEntity() {
+        return DomainMapper.DTOToEntity(dto);
+    }
+
+    @Benchmark
+    public CategoryDTO entityToDto() {
+        return DomainMapper.EntityToDTO(entity);
+    }
+}
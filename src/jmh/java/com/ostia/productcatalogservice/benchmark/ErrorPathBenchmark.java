@@ -0,0 +1,107 @@
+package com.ostia.productcatalogservice.benchmark;
+
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.exception.EntityNotFoundException;
+import com.ostia.productcatalogservice.exception.ErrorResponse;
+import com.ostia.productcatalogservice.exception.GlobalExceptionHandler;
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.ostia.productcatalogservice.common.CacheNames.categoryKey;
+
+/**
+ * Compares answering a category lookup with 200, with the current 404 path
+ * (stackless exception, precompiled messages, sampled logging) and with the
+ * previous one (stack trace, eager String.format, two MessageSource lookups).
+ * Every path starts with the same in-memory lookup, so the differences are the
+ * cost of the response alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrorPathBenchmark {
+
+    private ResourceBundleMessageSource messageSource;
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private Map<String, VersionedCategoryDTO> categories;
+
+    @Setup
+    public void setUp() {
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("error", "logging-messages");
+        messageSource.setDefaultEncoding("UTF-8");
+
+        handler = new GlobalExceptionHandler(new CustomMessageResolver(messageSource), 10);
+        request = new MockHttpServletRequest("GET", "/api/v1/categories/Unknown");
+        categories = Map.of("books",
+                new VersionedCategoryDTO(UUID.randomUUID(), "Books", "Fiction and more", 1, Instant.EPOCH));
+    }
+
+    @Benchmark
+    public ResponseEntity<?> found() {
+        return ResponseEntity.ok(lookup("Books"));
+    }
+
+    @Benchmark
+    public ResponseEntity<?> notFound() {
+        try {
+            return ResponseEntity.ok(lookup("Unknown"));
+        } catch (EntityNotFoundException ex) {
+            return handler.handleEntityNotFound(ex, request);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<?> notFoundWithStackTraceAndMessageFormat() {
+        try {
+            return ResponseEntity.ok(legacyLookup("Unknown"));
+        } catch (IllegalStateException ex) {
+            messageSource.getMessage("log.entity.notfound", new Object[]{"Category", "name", "Unknown"}, Locale.ENGLISH);
+            var status = HttpStatus.NOT_FOUND;
+            return ResponseEntity.status(status).body(new ErrorResponse(
+                    status.value(),
+                    status.getReasonPhrase(),
+                    messageSource.getMessage("error.entity.notfound", new Object[]{"Category", "name", "Unknown"}, Locale.ENGLISH),
+                    request.getRequestURI()
+            ));
+        }
+    }
+
+    private VersionedCategoryDTO lookup(String name) {
+        var category = categories.get(categoryKey(name));
+        if (category == null) {
+            throw new EntityNotFoundException("Category", "name", name);
+        }
+        return category;
+    }
+
+    private VersionedCategoryDTO legacyLookup(String name) {
+        var category = categories.get(categoryKey(name));
+        if (category == null) {
+            throw new IllegalStateException(String.format("%s entity with %s '%s' does not exist", "Category", "name", name));
+        }
+        return category;
+    }
+}
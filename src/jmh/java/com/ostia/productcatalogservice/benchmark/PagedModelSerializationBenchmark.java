@@ -0,0 +1,64 @@
+package com.ostia.productcatalogservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ostia.productcatalogservice.assembler.CategoryModelAssembler;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PagedModelSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper mapper;
+    private PagedModel<EntityModel<CategoryDTO>> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.bindRequest();
+        var assembler = new CategoryModelAssembler();
+        List<EntityModel<CategoryDTO>> content = BenchmarkSupport.categories(pageSize).stream()
+                .map(assembler::toModel)
+                .toList();
+
+        mapper = BenchmarkSupport.halObjectMapper();
+        page = PagedModel.of(content, new PagedModel.PageMetadata(pageSize, 0, 10_000),
+                Link.of("https://localhost:8444/api/v1/categories?page=0&size=" + pageSize),
+                Link.of("https://localhost:8444/api/v1/categories?page=1&size=" + pageSize, IanaLinkRelations.NEXT));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.unbindRequest();
+    }
+
+    @Benchmark
+    public byte[] serializeHalPage() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(page);
+    }
+}
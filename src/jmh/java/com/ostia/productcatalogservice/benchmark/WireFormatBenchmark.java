@@ -0,0 +1,112 @@
+package com.ostia.productcatalogservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ostia.productcatalogservice.assembler.CategoryModelAssembler;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.dto.CategoryPageDTO;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost of one category page as HAL JSON (what browsers get) versus the
+ * link-free page in compact JSON, CBOR and Smile. Each benchmark also reports the size
+ * of its payload as the {@code bytes} secondary result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WireFormatBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper halMapper;
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+    private PagedModel<EntityModel<CategoryDTO>> halPage;
+    private CategoryPageDTO compactPage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        BenchmarkSupport.bindRequest();
+        var assembler = new CategoryModelAssembler();
+        List<CategoryDTO> categories = BenchmarkSupport.categories(pageSize);
+
+        halMapper = BenchmarkSupport.halObjectMapper();
+        halPage = PagedModel.of(categories.stream().map(assembler::toModel).toList(),
+                new PagedModel.PageMetadata(pageSize, 0, 10_000),
+                Link.of("https://localhost:8444/api/v1/categories?page=0&size=" + pageSize),
+                Link.of("https://localhost:8444/api/v1/categories?page=1&size=" + pageSize, IanaLinkRelations.NEXT));
+
+        jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+        compactPage = CategoryPageDTO.of(new PageImpl<>(categories, PageRequest.of(0, pageSize), 10_000));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.unbindRequest();
+    }
+
+    @Benchmark
+    public byte[] halJson(Payload payload) throws JsonProcessingException {
+        return payload.record(halMapper.writeValueAsBytes(halPage));
+    }
+
+    @Benchmark
+    public byte[] compactJson(Payload payload) throws JsonProcessingException {
+        return payload.record(jsonMapper.writeValueAsBytes(compactPage));
+    }
+
+    @Benchmark
+    public byte[] cbor(Payload payload) throws JsonProcessingException {
+        return payload.record(cborMapper.writeValueAsBytes(compactPage));
+    }
+
+    @Benchmark
+    public byte[] smile(Payload payload) throws JsonProcessingException {
+        return payload.record(smileMapper.writeValueAsBytes(compactPage));
+    }
+
+    /**
+     * Every call encodes the same page, so the last size is the payload size.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long bytes;
+
+        byte[] record(byte[] body) {
+            bytes = body.length;
+            return body;
+        }
+    }
+}
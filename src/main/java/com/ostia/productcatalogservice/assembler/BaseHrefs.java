@@ -0,0 +1,36 @@
+package com.ostia.productcatalogservice.assembler;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * Resolves a controller's base URI once per request and keeps it as a request attribute,
+ * so assemblers only pay for {@code linkTo} on the first item of a page.
+ */
+final class BaseHrefs {
+
+    private static final String ATTRIBUTE_PREFIX = BaseHrefs.class.getName() + ".";
+
+    private BaseHrefs() {
+    }
+
+    static String of(Class<?> controller) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return resolve(controller);
+        }
+
+        String attribute = ATTRIBUTE_PREFIX + controller.getName();
+        var baseHref = (String) attributes.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+        if (baseHref == null) {
+            baseHref = resolve(controller);
+            attributes.setAttribute(attribute, baseHref, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseHref;
+    }
+
+    private static String resolve(Class<?> controller) {
+        return linkTo(controller).withSelfRel().getHref();
+    }
+}
@@ -2,24 +2,40 @@ package com.ostia.productcatalogservice.assembler;
 
 import com.ostia.productcatalogservice.controller.CategoryController;
 import com.ostia.productcatalogservice.dto.CategoryDTO;
-import com.ostia.productcatalogservice.dto.UpdateCategoryDTO;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+import java.nio.charset.StandardCharsets;
 import static com.ostia.productcatalogservice.common.LinkRelation.*;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
+/**
+ * Builds the links {@code linkTo(methodOn(CategoryController.class)...)} would, but resolves
+ * the controller base URI once per request and only encodes the name per item. The name is
+ * encoded as a full URI component, so {@code &}, {@code +}, {@code =} and {@code ?} cannot
+ * change which category a link points at.
+ */
 @Component
 public class CategoryModelAssembler implements RepresentationModelAssembler<CategoryDTO, EntityModel<CategoryDTO>> {
 
     @Override
     public EntityModel<CategoryDTO> toModel(CategoryDTO categoryDTO) {
+        String baseHref = baseHref();
+        String encodedName = UriUtils.encode(categoryDTO.name(), StandardCharsets.UTF_8);
+        String itemHref = baseHref + "/" + encodedName;
+        String deleteHref = baseHref + "?name=" + encodedName;
+
         return EntityModel.of(
                 categoryDTO,
-                linkTo(methodOn(CategoryController.class).getCategory(categoryDTO.name())).withSelfRel(),
-                linkTo(methodOn(CategoryController.class).deleteCategory(categoryDTO.name())).withRel(DELETE.rel()),
-                linkTo(methodOn(CategoryController.class).updateCategory(categoryDTO.name(), new UpdateCategoryDTO(categoryDTO.description()))).withRel(UPDATE.rel())
+                Link.of(itemHref, IanaLinkRelations.SELF),
+                Link.of(deleteHref, DELETE.rel()),
+                Link.of(itemHref, UPDATE.rel())
         );
     }
+
+    public static String baseHref() {
+        return BaseHrefs.of(CategoryController.class);
+    }
 }
@@ -0,0 +1,31 @@
+package com.ostia.productcatalogservice.assembler;
+
+import com.ostia.productcatalogservice.controller.ProductController;
+import com.ostia.productcatalogservice.dto.ProductDTO;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+import java.nio.charset.StandardCharsets;
+import static com.ostia.productcatalogservice.common.LinkRelation.*;
+
+@Component
+public class ProductModelAssembler implements RepresentationModelAssembler<ProductDTO, EntityModel<ProductDTO>> {
+
+    @Override
+    public EntityModel<ProductDTO> toModel(ProductDTO productDTO) {
+        String baseHref = BaseHrefs.of(ProductController.class);
+        String encodedName = UriUtils.encode(productDTO.name(), StandardCharsets.UTF_8);
+        String itemHref = baseHref + "/" + encodedName;
+        String deleteHref = baseHref + "?name=" + encodedName;
+
+        return EntityModel.of(
+                productDTO,
+                Link.of(itemHref, IanaLinkRelations.SELF),
+                Link.of(deleteHref, DELETE.rel()),
+                Link.of(itemHref, UPDATE.rel())
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.ostia.productcatalogservice.common;
+
+import java.util.Locale;
+
+public interface CacheNames {
+
+    String CATEGORIES = "categories";
+    String CATEGORY_PAGES = "category-pages";
+    String CATEGORY_MISSES = "category-misses";
+
+    /**
+     * The {@link #CATEGORIES} key for a name; names are unique regardless of case.
+     */
+    static String categoryKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
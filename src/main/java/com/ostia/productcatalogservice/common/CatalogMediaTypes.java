@@ -0,0 +1,24 @@
+package com.ostia.productcatalogservice.common;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Representations for internal callers. They carry no hypermedia links.
+ */
+public final class CatalogMediaTypes {
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+
+    public static final String COMPACT_JSON_VALUE = "application/vnd.ostia.compact+json";
+    public static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+
+    private CatalogMediaTypes() {
+    }
+
+    public static boolean isCompact(MediaType mediaType) {
+        return COMPACT_JSON.equalsTypeAndSubtype(mediaType)
+                || MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)
+                || SMILE.equalsTypeAndSubtype(mediaType);
+    }
+}
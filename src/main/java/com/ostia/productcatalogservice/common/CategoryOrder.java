@@ -0,0 +1,7 @@
+package com.ostia.productcatalogservice.common;
+
+public enum CategoryOrder {
+
+    NAME,
+    CREATED
+}
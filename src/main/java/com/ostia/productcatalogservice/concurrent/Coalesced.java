@@ -0,0 +1,16 @@
+package com.ostia.productcatalogservice.concurrent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Concurrent invocations with equal arguments share a single execution.
+ * Only suitable for side-effect-free reads. String arguments are compared
+ * case-insensitively, like category names.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+}
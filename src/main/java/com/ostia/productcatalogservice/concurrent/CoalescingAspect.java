@@ -0,0 +1,77 @@
+package com.ostia.productcatalogservice.concurrent;
+
+import com.ostia.productcatalogservice.common.CacheNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sits between the cache and the transaction advice (see {@code CacheConfig}):
+ * cache hits never reach it, and concurrent misses for the same arguments
+ * open one transaction between them.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class CoalescingAspect {
+
+    public static final String COUNTER_NAME = "catalog.coalesced.calls";
+
+    private final SingleFlight<List<Object>, Object> singleFlight = new SingleFlight<>();
+    private final MeterRegistry registry;
+
+    public CoalescingAspect(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("catalog.coalesced.in.flight", singleFlight, SingleFlight::inFlight)
+                .description("Distinct coalesced calls currently executing")
+                .register(registry);
+    }
+
+    @Around("@annotation(com.ostia.productcatalogservice.concurrent.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) {
+        var signature = joinPoint.getSignature();
+        List<Object> key = List.of(signature.getDeclaringTypeName(), signature.getName(), keyArgs(joinPoint.getArgs()));
+
+        var result = singleFlight.execute(key, () -> proceed(joinPoint));
+
+        Counter.builder(COUNTER_NAME)
+                .description("Calls that ran the method (leader) or shared another call's result (coalesced)")
+                .tag("method", signature.getName())
+                .tag("role", result.coalesced() ? "coalesced" : "leader")
+                .register(registry)
+                .increment();
+        return result.value();
+    }
+
+    /**
+     * String arguments are category names and are keyed the way the {@code categories}
+     * cache keys them, so "Books" and "BOOKS" share one miss just as they share one entry.
+     */
+    private static List<Object> keyArgs(Object[] args) {
+        Object[] key = args.clone();
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] instanceof String name) {
+                key[i] = CacheNames.categoryKey(name);
+            }
+        }
+        return Arrays.asList(key);
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
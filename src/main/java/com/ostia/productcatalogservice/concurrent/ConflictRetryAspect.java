@@ -0,0 +1,81 @@
+package com.ostia.productcatalogservice.concurrent;
+
+import com.ostia.productcatalogservice.exception.ConcurrentUpdateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Runs outside the transaction advice, so every attempt gets its own transaction
+ * and sees the row as last committed. Between attempts it sleeps for a random time
+ * up to an exponentially growing bound ("full jitter"), which spreads out writers
+ * that collided. It shares its order with {@link CoalescingAspect}; the two never
+ * apply to the same method, since only reads are coalesced.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class ConflictRetryAspect {
+
+    public static final String COUNTER_NAME = "catalog.update.conflicts";
+
+    private final MeterRegistry registry;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    public ConflictRetryAspect(MeterRegistry registry,
+                               @Value("${catalog.update.retry.max-attempts:4}") int maxAttempts,
+                               @Value("${catalog.update.retry.initial-backoff:10ms}") Duration initialBackoff,
+                               @Value("${catalog.update.retry.max-backoff:200ms}") Duration maxBackoff) {
+        this.registry = registry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+    }
+
+    @Around("@annotation(com.ostia.productcatalogservice.concurrent.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrentUpdateException | ConcurrencyFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    count(method, "exhausted");
+                    throw ex;
+                }
+                count(method, "retried");
+                backOff(attempt, ex);
+            }
+        }
+    }
+
+    private void backOff(int attempt, RuntimeException conflict) {
+        long bound = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attempt - 1, 30));
+        try {
+            Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(bound + 1)));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    private void count(String method, String outcome) {
+        Counter.builder(COUNTER_NAME)
+                .description("Optimistic-locking conflicts, by whether the call was retried or gave up")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,92 @@
+package com.ostia.productcatalogservice.concurrent;
+
+import com.ostia.productcatalogservice.exception.ServiceAtCapacityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * With virtual threads Tomcat no longer caps concurrency, so every caller would
+ * queue inside Hikari for a connection. This admits at most as many transactional
+ * service calls as the pool has connections and fails the rest after a short wait.
+ * <p>
+ * It is the innermost advice before the transaction (see {@code CacheConfig}), so
+ * cache hits, coalesced followers and retry back-offs never hold a permit. A
+ * transactional call made from inside another one reuses the outer permit.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionBulkheadAspect {
+
+    public static final String COUNTER_NAME = "catalog.load.shed";
+
+    private static final ThreadLocal<Boolean> HOLDS_PERMIT = new ThreadLocal<>();
+
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final long acquireTimeoutNanos;
+    private final Counter rejected;
+
+    public ConnectionBulkheadAspect(
+            @Value("${catalog.concurrency.max-in-flight:${spring.datasource.hikari.maximum-pool-size:10}}") int maxInFlight,
+            @Value("${catalog.concurrency.acquire-timeout:2s}") Duration acquireTimeout,
+            MeterRegistry registry) {
+        this.permits = new Semaphore(maxInFlight, true);
+        this.maxInFlight = maxInFlight;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.rejected = Counter.builder(COUNTER_NAME)
+                .description("Requests turned away with 503 before reaching the connection pool")
+                .tag("reason", "bulkhead")
+                .register(registry);
+        Gauge.builder("catalog.concurrency.permits.available", permits, Semaphore::availablePermits)
+                .description("Connection permits not held by a transactional call")
+                .register(registry);
+    }
+
+    @Around("within(com.ostia.productcatalogservice.service..*) "
+            + "&& @annotation(org.springframework.transaction.annotation.Transactional)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (HOLDS_PERMIT.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        if (!acquire()) {
+            rejected.increment();
+            throw new ServiceAtCapacityException(joinPoint.getSignature().getName(), maxInFlight);
+        }
+        HOLDS_PERMIT.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            HOLDS_PERMIT.remove();
+            permits.release();
+        }
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.ostia.productcatalogservice.concurrent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A call that loses an optimistic-locking race is retried in a fresh transaction.
+ * Only suitable for methods that can safely be re-run from the start.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,58 @@
+package com.ostia.productcatalogservice.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent calls for the same key: the first caller runs the
+ * loader, callers arriving while it is in flight wait for and share its result
+ * or exception. Nothing is retained once the call completes, so this is not a
+ * cache. Contention is limited to the map bin of the key.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Result<V> execute(K key, Supplier<V> loader) {
+        var promise = new CompletableFuture<V>();
+        var existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            return new Result<>(await(existing), true);
+        }
+
+        try {
+            V value = loader.get();
+            promise.complete(value);
+            return new Result<>(value, false);
+        } catch (RuntimeException | Error ex) {
+            promise.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, promise);
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    public record Result<V>(V value, boolean coalesced) {
+    }
+}
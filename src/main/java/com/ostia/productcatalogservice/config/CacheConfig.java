@@ -0,0 +1,39 @@
+package com.ostia.productcatalogservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import java.time.Duration;
+
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORY_MISSES;
+
+/**
+ * Runs the caching advice outside the transactional one so that cache hits
+ * never open a transaction or borrow a JDBC connection. Request coalescing
+ * ({@code CoalescingAspect}) and then the connection bulkhead
+ * ({@code ConnectionBulkheadAspect}) sit between the two, and the negative
+ * cache ({@code CategoryMissCache}) sits outside all of them.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 3)
+public class CacheConfig {
+
+    /**
+     * Misses expire after {@code catalog.cache.miss-ttl} rather than the shared spec's
+     * ten minutes, which bounds how long a miss cached in a race with a create survives.
+     */
+    @Bean
+    CacheManagerCustomizer<CaffeineCacheManager> categoryMissCacheCustomizer(
+            @Value("${catalog.cache.miss-ttl:5s}") Duration missTtl) {
+        return cacheManager -> cacheManager.registerCustomCache(CATEGORY_MISSES, Caffeine.newBuilder()
+                .expireAfterWrite(missTtl)
+                .maximumSize(10_000)
+                .recordStats()
+                .build());
+    }
+}
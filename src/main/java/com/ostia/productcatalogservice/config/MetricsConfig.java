@@ -0,0 +1,31 @@
+package com.ostia.productcatalogservice.config;
+
+import com.ostia.productcatalogservice.common.ApiVersion;
+import com.ostia.productcatalogservice.metrics.QueryCountInterceptor;
+import com.ostia.productcatalogservice.metrics.RequestQueryCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final QueryCountInterceptor queryCountInterceptor;
+
+    public MetricsConfig(QueryCountInterceptor queryCountInterceptor) {
+        this.queryCountInterceptor = queryCountInterceptor;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer statementInspectorCustomizer(RequestQueryCounter counter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryCountInterceptor).addPathPatterns(ApiVersion.V1 + "/**");
+    }
+}
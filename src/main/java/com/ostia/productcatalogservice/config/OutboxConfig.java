@@ -0,0 +1,35 @@
+package com.ostia.productcatalogservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ostia.productcatalogservice.outbox.CategoryChangeSink;
+import com.ostia.productcatalogservice.outbox.FileCategoryChangeSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import java.nio.file.Path;
+
+/**
+ * Changes always reach the feed at {@code /api/v1/category-changes}. Setting
+ * {@code catalog.outbox.file} also appends them to a local NDJSON file; any other
+ * {@link CategoryChangeSink} bean replaces both defaults.
+ */
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty("catalog.outbox.file")
+    CategoryChangeSink fileCategoryChangeSink(@Value("${catalog.outbox.file}") Path file, ObjectMapper objectMapper) {
+        return new FileCategoryChangeSink(file, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    CategoryChangeSink feedOnlyCategoryChangeSink() {
+        return changes -> {
+        };
+    }
+}
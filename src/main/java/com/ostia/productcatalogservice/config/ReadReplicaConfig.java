@@ -0,0 +1,66 @@
+package com.ostia.productcatalogservice.config;
+
+import com.ostia.productcatalogservice.datasource.ReplicaRoutingDataSource;
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Active when {@code catalog.datasource.replica.url} is set. {@code spring.datasource}
+ * keeps describing the primary; the application sees one lazy, routing DataSource.
+ */
+@Configuration
+@ConditionalOnProperty("catalog.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("catalog.datasource.replica.hikari")
+    HikariDataSource replicaDataSource(@Value("${catalog.datasource.replica.url}") String url,
+                                       @Value("${catalog.datasource.replica.username:}") String username,
+                                       @Value("${catalog.datasource.replica.password:}") String password) {
+        var replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${catalog.datasource.replica.sticky-window:5s}") Duration stickyWindow,
+            @Value("${catalog.datasource.replica.max-lag:1s}") Duration maxLag,
+            @Value("${catalog.datasource.replica.lag-query:#{null}}") String lagQuery,
+            CustomMessageResolver messages,
+            MeterRegistry registry) {
+        return new ReplicaRoutingDataSource(primary, replica, stickyWindow, maxLag, lagQuery, messages, registry);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
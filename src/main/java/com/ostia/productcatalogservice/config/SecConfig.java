@@ -1,29 +1,32 @@
 package com.ostia.productcatalogservice.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ostia.productcatalogservice.security.CachingJwtDecoder;
+import com.ostia.productcatalogservice.security.KeycloakRealmRoleConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtDecoders;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.core.convert.converter.Converter;
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.time.Clock;
+import java.time.Duration;
 
 @Configuration
 @EnableMethodSecurity
 public class SecConfig {
 
     @Bean
-    SecurityFilterChain security(HttpSecurity http) throws Exception {
+    SecurityFilterChain security(HttpSecurity http,
+                                 JwtDecoder jwtDecoder,
+                                 JwtAuthenticationConverter jwtAuthenticationConverter) throws Exception {
 
         http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -33,8 +36,8 @@ public class SecConfig {
                 )
                 .oauth2ResourceServer(oauth2 ->
                         oauth2.jwt(jwt -> jwt
-                                .decoder(jwtDecoder())
-                                .jwtAuthenticationConverter(jwtAuthenticationConverter())
+                                .decoder(jwtDecoder)
+                                .jwtAuthenticationConverter(jwtAuthenticationConverter)
                         )
                 );
 
@@ -42,44 +45,37 @@ public class SecConfig {
     }
 
     @Bean
-    JwtDecoder jwtDecoder() {
-        return JwtDecoders.fromIssuerLocation(
-                "http://localhost:9000/realms/ostia"
-        );
+    JwtDecoder jwtDecoder(@Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+                          @Value("${catalog.security.jwt.jwk-set-uri}") String jwkSetUri,
+                          @Value("${catalog.security.jwt.jwks-cache-ttl:5m}") Duration jwksCacheTtl,
+                          @Value("${catalog.security.jwt.verified-token-cache.enabled:true}") boolean cacheVerifiedTokens,
+                          @Value("${catalog.security.jwt.verified-token-cache.maximum-size:10000}") long maximumSize,
+                          MeterRegistry meterRegistry) {
+
+        var jwksCache = new CaffeineCache("jwks", Caffeine.newBuilder()
+                .expireAfterWrite(jwksCacheTtl)
+                .build());
+
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withJwkSetUri(jwkSetUri)
+                .cache(jwksCache)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+
+        if (!cacheVerifiedTokens) {
+            return decoder;
+        }
+        return new CachingJwtDecoder(decoder, new KeycloakRealmRoleConverter(), maximumSize, meterRegistry, Clock.systemUTC());
     }
 
     @Bean
-    JwtAuthenticationConverter jwtAuthenticationConverter() {
+    JwtAuthenticationConverter jwtAuthenticationConverter(JwtDecoder jwtDecoder) {
 
         JwtAuthenticationConverter converter =
                 new JwtAuthenticationConverter();
 
-        converter.setJwtGrantedAuthoritiesConverter(keycloakRealmRoleConverter());
+        converter.setJwtGrantedAuthoritiesConverter(jwtDecoder instanceof CachingJwtDecoder cachingDecoder
+                ? cachingDecoder.cachedAuthoritiesConverter()
+                : new KeycloakRealmRoleConverter());
         return converter;
     }
-
-    private Converter<Jwt, Collection<GrantedAuthority>> keycloakRealmRoleConverter() {
-
-        return jwt -> {
-
-            Map<String, Object> realmAccess =
-                    jwt.getClaim("realm_access");
-
-            if (realmAccess == null || realmAccess.isEmpty()) {
-                return List.of();
-            }
-
-            Object roles = realmAccess.get("roles");
-
-            if (!(roles instanceof List<?> roleList)) {
-                return List.of();
-            }
-
-            return roleList.stream()
-                    .filter(String.class::isInstance)
-                    .map(role -> "ROLE_" + role)
-                    .map(SimpleGrantedAuthority::new)
-                    .collect(Collectors.toList());
-        };
-    }
 }
@@ -0,0 +1,32 @@
+package com.ostia.productcatalogservice.controller;
+
+import com.ostia.productcatalogservice.common.ApiVersion;
+import com.ostia.productcatalogservice.dto.CategoryChangeFeed;
+import com.ostia.productcatalogservice.service.CategoryChangeService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(ApiVersion.V1 + "/category-changes")
+public class CategoryChangeController {
+    private final CategoryChangeService categoryChangeService;
+
+    public CategoryChangeController(CategoryChangeService categoryChangeService) {
+        this.categoryChangeService = categoryChangeService;
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @GetMapping
+    public ResponseEntity<CategoryChangeFeed> getChanges(
+            @RequestParam(defaultValue = "0") @Min(0) long since,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limit) {
+
+        return ResponseEntity.ok(categoryChangeService.getChangesSince(since, limit));
+    }
+}
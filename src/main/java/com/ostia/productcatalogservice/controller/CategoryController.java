@@ -1,34 +1,102 @@
 package com.ostia.productcatalogservice.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.ostia.productcatalogservice.assembler.CategoryModelAssembler;
 import com.ostia.productcatalogservice.common.ApiVersion;
+import com.ostia.productcatalogservice.common.CatalogMediaTypes;
+import com.ostia.productcatalogservice.common.CategoryOrder;
+import com.ostia.productcatalogservice.dto.BulkImportResult;
 import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.dto.CategoryLookupResult;
+import com.ostia.productcatalogservice.dto.CategoryNodeDTO;
+import com.ostia.productcatalogservice.dto.CategoryPageDTO;
+import com.ostia.productcatalogservice.dto.MoveCategoryDTO;
 import com.ostia.productcatalogservice.dto.UpdateCategoryDTO;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.representation.CategoryRepresentationCache;
+import com.ostia.productcatalogservice.representation.Variants;
+import com.ostia.productcatalogservice.search.CategorySearchIndex;
+import com.ostia.productcatalogservice.service.CategoryImportService;
+import com.ostia.productcatalogservice.service.CategoryLookupService;
 import com.ostia.productcatalogservice.service.CategoryService;
+import com.ostia.productcatalogservice.service.CategoryTreeService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.List;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @RestController
 @RequestMapping(ApiVersion.V1 + "/categories")
 public class CategoryController {
     public static final String CATEGORIES_PATH = "categories/";
+    private static final List<MediaType> PAGE_VARIANTS = List.of(
+            MediaType.APPLICATION_JSON,
+            MediaTypes.HAL_JSON,
+            CatalogMediaTypes.COMPACT_JSON,
+            MediaType.APPLICATION_CBOR,
+            CatalogMediaTypes.SMILE
+    );
     private final CategoryService categoryService;
     private final CategoryModelAssembler categoryModelAssembler;
+    private final CategoryImportService categoryImportService;
+    private final CategoryTreeService categoryTreeService;
+    private final CategoryLookupService categoryLookupService;
+    private final CategorySearchIndex categorySearchIndex;
+    private final CategoryRepresentationCache categoryRepresentationCache;
+    private final ObjectMapper objectMapper;
 
-    public CategoryController(CategoryService categoryService, CategoryModelAssembler categoryModelAssembler) {
+    public CategoryController(CategoryService categoryService,
+                              CategoryModelAssembler categoryModelAssembler,
+                              CategoryImportService categoryImportService,
+                              CategoryTreeService categoryTreeService,
+                              CategoryLookupService categoryLookupService,
+                              CategorySearchIndex categorySearchIndex,
+                              CategoryRepresentationCache categoryRepresentationCache,
+                              ObjectMapper objectMapper) {
         this.categoryService = categoryService;
         this.categoryModelAssembler = categoryModelAssembler;
+        this.categoryImportService = categoryImportService;
+        this.categoryTreeService = categoryTreeService;
+        this.categoryLookupService = categoryLookupService;
+        this.categorySearchIndex = categorySearchIndex;
+        this.categoryRepresentationCache = categoryRepresentationCache;
+        this.objectMapper = objectMapper;
     }
 
     @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
@@ -43,37 +111,245 @@ public class CategoryController {
         return ResponseEntity.created(locationOfNewCategory).build();
     }
 
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResult> importCategories(@RequestBody List<CategoryDTO> categories) {
+        return ResponseEntity.ok(categoryImportService.importCategories(categories));
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResult> importCategoriesFromStream(HttpServletRequest request) throws IOException {
+        try (MappingIterator<CategoryDTO> lines = objectMapper.readerFor(CategoryDTO.class).readValues(request.getInputStream())) {
+            return ResponseEntity.ok(categoryImportService.importCategories(lines));
+        } catch (JsonProcessingException ex) {
+            throw unreadable(ex, request);
+        } catch (RuntimeException ex) {
+            // MappingIterator reports a malformed line mid-stream as an unchecked wrapper
+            if (ex.getCause() instanceof JsonProcessingException cause) {
+                throw unreadable(cause, request);
+            }
+            throw ex;
+        }
+    }
+
     @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
     @GetMapping("/{name}")
-    public ResponseEntity<CategoryDTO> getCategory(@PathVariable String name) {
+    public ResponseEntity<byte[]> getCategory(@PathVariable String name,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                              WebRequest request) {
 
-       return ResponseEntity.ok(categoryService.getCategory(name));
+        var category = categoryService.getCategory(name);
+        MediaType variant = Variants.negotiate(accept, CategoryRepresentationCache.VARIANTS);
+        if (request.checkNotModified(eTag(category, variant), category.updatedAt().toEpochMilli())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag(category, variant))
+                .lastModified(category.updatedAt())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(variant)
+                .body(categoryRepresentationCache.get(category, variant));
     }
 
     @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
     @DeleteMapping
-    public ResponseEntity<Void> deleteCategory(@RequestParam String name) {
-        categoryService.deleteCategory(name);
+    public ResponseEntity<Void> deleteCategory(@RequestParam String name, WebRequest request) {
+        Integer expectedVersion = null;
+
+        if (request.getHeader(HttpHeaders.IF_MATCH) != null) {
+            var current = categoryService.getCategory(name);
+            if (!ifMatches(request, current)) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            expectedVersion = current.version();
+        }
+        categoryService.deleteCategory(name, expectedVersion);
         return ResponseEntity.noContent().build();
     }
 
     @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
     @PutMapping("/{name}")
     public ResponseEntity<Void> updateCategory(@PathVariable String name,
-                                               @Valid @RequestBody UpdateCategoryDTO dto) {
-        categoryService.updateCategory(name, dto);
+                                               @Valid @RequestBody UpdateCategoryDTO dto,
+                                               WebRequest request) {
+        Integer expectedVersion = null;
+
+        if (request.getHeader(HttpHeaders.IF_MATCH) != null) {
+            var current = categoryService.getCategory(name);
+            if (!ifMatches(request, current)) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            expectedVersion = current.version();
+        }
+        categoryService.updateCategory(name, dto, expectedVersion);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @GetMapping("/{name}/descendants")
+    public ResponseEntity<List<CategoryNodeDTO>> getDescendants(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "64") @Min(1) @Max(64) int maxDepth,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(1000) int limit) {
+        return ResponseEntity.ok(categoryTreeService.getDescendants(name, maxDepth, limit));
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @GetMapping("/{name}/ancestors")
+    public ResponseEntity<List<CategoryNodeDTO>> getAncestors(@PathVariable String name) {
+        return ResponseEntity.ok(categoryTreeService.getAncestors(name));
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @PutMapping("/{name}/parent")
+    public ResponseEntity<Void> moveCategory(@PathVariable String name, @RequestBody MoveCategoryDTO dto) {
+        categoryTreeService.moveCategory(name, dto.parent());
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Only If-None-Match is honoured on the list: a delete can lower max(updated_at), so a
+     * Last-Modified based comparison alone could wrongly answer 304.
+     * <p>
+     * Internal callers that accept CBOR, Smile or compact JSON get the same page without links.
+     */
     @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
     @GetMapping
-    public ResponseEntity<PagedModel<EntityModel<CategoryDTO>>> getAllCategories(
+    public ResponseEntity<?> getAllCategories(
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "10") @Min(1) int size,
-            PagedResourcesAssembler<CategoryDTO> assembler) {
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            PagedResourcesAssembler<CategoryDTO> assembler,
+            WebRequest request) {
+
+        var catalogVersion = categoryService.getCatalogVersion();
+        MediaType variant = Variants.negotiate(accept, PAGE_VARIANTS);
+        String eTag = catalogVersion.count() + "-" + catalogVersion.lastModified().toEpochMilli()
+                + "-" + page + "-" + size + "-" + variant.getSubtype();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
 
         Pageable pageable = PageRequest.of(page, size);
         Page<CategoryDTO> result = categoryService.getAllCategories(pageable);
-        return ResponseEntity.ok(assembler.toModel(result, categoryModelAssembler));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(catalogVersion.lastModified())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(CatalogMediaTypes.isCompact(variant)
+                        ? CategoryPageDTO.of(result)
+                        : assembler.toModel(result, categoryModelAssembler));
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @GetMapping(params = {"cursor", "!q", "!names"})
+    public ResponseEntity<CollectionModel<EntityModel<CategoryDTO>>> getCategoriesByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "NAME") CategoryOrder order) {
+
+        var result = categoryService.getCategoriesAfter(cursor, size, order);
+        var model = categoryModelAssembler.toCollectionModel(result.content())
+                .add(linkTo(methodOn(CategoryController.class).getCategoriesByCursor(cursor, size, order)).withSelfRel());
+
+        if (result.hasNext()) {
+            model.add(linkTo(methodOn(CategoryController.class).getCategoriesByCursor(result.nextCursor(), size, order))
+                    .withRel(IanaLinkRelations.NEXT));
+        }
+        return ResponseEntity.ok(model);
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @GetMapping(params = {"names", "!q", "!cursor"})
+    public ResponseEntity<CategoryLookupResult> getCategoriesByName(
+            @RequestParam @Size(min = 1, max = 100) List<@NotBlank String> names) {
+        return ResponseEntity.ok(categoryLookupService.getCategories(names));
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @GetMapping(params = {"q", "!cursor", "!names", "!page", "!size"})
+    public ResponseEntity<CollectionModel<EntityModel<CategoryDTO>>> searchCategories(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit) {
+
+        var model = categoryModelAssembler.toCollectionModel(categorySearchIndex.search(q, limit))
+                .add(linkTo(methodOn(CategoryController.class).searchCategories(q, limit)).withSelfRel());
+        return ResponseEntity.ok(model);
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @GetMapping(params = "q")
+    public ResponseEntity<Void> rejectSearchWithPaging() {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q cannot be combined with cursor, names, page or size");
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @GetMapping(params = {"cursor", "names", "!q"})
+    public ResponseEntity<Void> rejectCursorWithNames() {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor cannot be combined with names");
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        ObjectWriter writer = objectMapper.writerFor(CategoryDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                categoryService.exportCategories(category -> writeLine(writer, generator, category));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static HttpMessageNotReadableException unreadable(JsonProcessingException ex, HttpServletRequest request) {
+        return new HttpMessageNotReadableException(ex.getOriginalMessage(), ex, new ServletServerHttpRequest(request));
+    }
+
+    private static void writeLine(ObjectWriter writer, JsonGenerator generator, CategoryDTO category) {
+        try {
+            writer.writeValue(generator, category);
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Each variant of a version is a different body, so it gets its own strong ETag.
+     */
+    private static String eTag(VersionedCategoryDTO category, MediaType variant) {
+        return category.id() + "-" + category.version() + "-" + variant.getSubtype();
+    }
+
+    /**
+     * Strong comparison against the ETag of any variant of the current version: the client
+     * may have read the category as CBOR and now be writing it as JSON.
+     */
+    private static boolean ifMatches(WebRequest request, VersionedCategoryDTO current) {
+        var ifMatch = request.getHeaderValues(HttpHeaders.IF_MATCH);
+        if (ifMatch == null) {
+            return true;
+        }
+        for (String header : ifMatch) {
+            for (String tag : StringUtils.commaDelimitedListToStringArray(header)) {
+                tag = tag.trim();
+                if (tag.equals("*")) {
+                    return true;
+                }
+                for (MediaType variant : CategoryRepresentationCache.VARIANTS) {
+                    if (tag.equals("\"" + eTag(current, variant) + "\"")) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,76 @@
+package com.ostia.productcatalogservice.controller;
+
+import com.ostia.productcatalogservice.assembler.ProductModelAssembler;
+import com.ostia.productcatalogservice.common.ApiVersion;
+import com.ostia.productcatalogservice.dto.ProductDTO;
+import com.ostia.productcatalogservice.dto.UpdateProductDTO;
+import com.ostia.productcatalogservice.service.ProductService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import java.net.URI;
+
+@RestController
+@RequestMapping(ApiVersion.V1 + "/products")
+public class ProductController {
+    public static final String PRODUCTS_PATH = "products/";
+    private final ProductService productService;
+    private final ProductModelAssembler productModelAssembler;
+
+    public ProductController(ProductService productService, ProductModelAssembler productModelAssembler) {
+        this.productService = productService;
+        this.productModelAssembler = productModelAssembler;
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @PostMapping
+    public ResponseEntity<Void> createProduct(@Valid @RequestBody ProductDTO productDTO, UriComponentsBuilder ucb) {
+
+        var id = productService.addProduct(productDTO);
+        URI locationOfNewProduct = ucb
+                .path(PRODUCTS_PATH + id)
+                .buildAndExpand(id)
+                .toUri();
+        return ResponseEntity.created(locationOfNewProduct).build();
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @GetMapping("/{name}")
+    public ResponseEntity<ProductDTO> getProduct(@PathVariable String name) {
+        return ResponseEntity.ok(productService.getProduct(name));
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @DeleteMapping
+    public ResponseEntity<Void> deleteProduct(@RequestParam String name) {
+        productService.deleteProduct(name);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @PutMapping("/{name}")
+    public ResponseEntity<Void> updateProduct(@PathVariable String name, @Valid @RequestBody UpdateProductDTO dto) {
+        productService.updateProduct(name, dto);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PreAuthorize("hasRole('PRODUCT_CATALOG_MANAGER')")
+    @GetMapping
+    public ResponseEntity<PagedModel<EntityModel<ProductDTO>>> getAllProducts(
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            PagedResourcesAssembler<ProductDTO> assembler) {
+
+        var result = productService.getAllProducts(PageRequest.of(page, size, Sort.by("name")));
+        return ResponseEntity.ok(assembler.toModel(result, productModelAssembler));
+    }
+}
@@ -0,0 +1,29 @@
+package com.ostia.productcatalogservice.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs inside the cache advice (see {@code CacheConfig}), so only cache misses reach it,
+ * and sends their loads to the primary: whatever they return is served to every client
+ * until evicted, and a replica row that is a second behind would outlive the lag.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+@ConditionalOnProperty("catalog.datasource.replica.url")
+public class CacheFillRoutingAspect {
+
+    @Around("within(com.ostia.productcatalogservice.service..*) "
+            + "&& @annotation(org.springframework.cache.annotation.Cacheable)")
+    public Object loadFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (var _ = ReplicaRoutingDataSource.readFromPrimary()) {
+            return joinPoint.proceed();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.ostia.productcatalogservice.datasource;
+
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * Must sit behind a {@code LazyConnectionDataSourceProxy} so the lookup happens at the
+ * first statement, once the transaction's read-only flag is known.
+ * <p>
+ * Reads still go to the primary when
+ * <ul>
+ *     <li>the request carries the {@value #LAST_WRITE_COOKIE} cookie from a write committed within
+ *     {@code stickyWindow} (read-your-writes). The cookie is set on the response of the writing
+ *     request, so this holds whichever instance the next request lands on,</li>
+ *     <li>they run inside {@link #readFromPrimary()}, which is how loads that fill shared caches
+ *     avoid caching a stale row for everyone,</li>
+ *     <li>the last replica check failed or measured lag above {@code maxLag}.</li>
+ * </ul>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    public static final String LAST_WRITE_COOKIE = "catalog-last-write";
+
+    private static final String COOKIE_SET_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".cookieSet";
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final DataSource replica;
+    private final Duration stickyWindow;
+    private final Duration maxLag;
+    @Nullable
+    private final String lagQuery;
+    private final CustomMessageResolver messages;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private volatile boolean replicaUsable = true;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    Duration stickyWindow,
+                                    Duration maxLag,
+                                    @Nullable String lagQuery,
+                                    CustomMessageResolver messages,
+                                    MeterRegistry registry) {
+        this.replica = replica;
+        this.stickyWindow = stickyWindow;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.messages = messages;
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.primaryRoutes = routeCounter(registry, Target.PRIMARY);
+        this.replicaRoutes = routeCounter(registry, Target.REPLICA);
+        Gauge.builder("catalog.datasource.replica.usable", this, routing -> routing.replicaUsable ? 1 : 0)
+                .description("Whether read-only transactions may use the replica")
+                .register(registry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var target = route();
+        (target == Target.PRIMARY ? primaryRoutes : replicaRoutes).increment();
+        return target;
+    }
+
+    /**
+     * Routes read-only transactions started on this thread to the primary until the
+     * returned scope is closed. Scopes nest; only the outermost one clears the flag.
+     */
+    public static PrimaryReads readFromPrimary() {
+        if (PRIMARY_READS.get() != null) {
+            return () -> {
+            };
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        return PRIMARY_READS::remove;
+    }
+
+    private Target route() {
+        var request = currentRequest();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriteOnCommit(request);
+            return Target.PRIMARY;
+        }
+        if (!replicaUsable || PRIMARY_READS.get() != null) {
+            return Target.PRIMARY;
+        }
+        return request != null && wroteRecently(request.getRequest()) ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    private void rememberWriteOnCommit(@Nullable ServletRequestAttributes request) {
+        if (request == null || request.getResponse() == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || request.getAttribute(COOKIE_SET_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        request.setAttribute(COOKIE_SET_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        HttpServletResponse response = request.getResponse();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    request.removeAttribute(COOKIE_SET_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                } else if (!response.isCommitted()) {
+                    response.addCookie(lastWriteCookie(request.getRequest().getContextPath()));
+                }
+            }
+        });
+    }
+
+    private boolean wroteRecently(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                try {
+                    long age = System.currentTimeMillis() - Long.parseLong(cookie.getValue());
+                    return Math.abs(age) <= stickyWindow.toMillis();
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Cookie lastWriteCookie(String contextPath) {
+        var cookie = new Cookie(LAST_WRITE_COOKIE, Long.toString(System.currentTimeMillis()));
+        cookie.setPath(contextPath.isEmpty() ? "/" : contextPath);
+        cookie.setMaxAge((int) Math.max(1, stickyWindow.plusMillis(999).toSeconds()));
+        cookie.setHttpOnly(true);
+        cookie.setAttribute("SameSite", "Lax");
+        return cookie;
+    }
+
+    /**
+     * Runs the lag query (or a plain connectivity check when none is configured)
+     * against the replica and decides whether reads may use it until the next check.
+     */
+    @Scheduled(fixedDelayString = "${catalog.datasource.replica.check-interval:5s}")
+    public void checkReplica() {
+        boolean usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            if (lagQuery == null) {
+                usable = connection.isValid(1);
+            } else {
+                try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                    usable = Duration.ofMillis((long) (lagSeconds * 1000)).compareTo(maxLag) <= 0;
+                }
+            }
+        } catch (SQLException ex) {
+            usable = false;
+        }
+
+        if (usable != replicaUsable) {
+            log.warn(messages.get(usable ? "log.replica.usable" : "log.replica.unusable"), maxLag.toMillis());
+        }
+        replicaUsable = usable;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Nullable
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes : null;
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, Target target) {
+        return Counter.builder("catalog.datasource.routed")
+                .description("Connections handed out, by target database")
+                .tag("target", target.name().toLowerCase())
+                .register(registry);
+    }
+
+    /**
+     * Closing never throws, so the scope fits a plain try-with-resources.
+     */
+    @FunctionalInterface
+    public interface PrimaryReads extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
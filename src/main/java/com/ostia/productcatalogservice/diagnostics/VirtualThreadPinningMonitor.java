@@ -0,0 +1,118 @@
+package com.ostia.productcatalogservice.diagnostics;
+
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} JFR events while the application runs and
+ * attributes each one to the first non-JDK frame, which is usually the JDBC driver
+ * or the application code holding the monitor. Each new frame is logged once and
+ * the running totals are served from {@code /actuator/pinning}.
+ */
+@Component
+@Endpoint(id = "pinning")
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "catalog.diagnostics.pinning.enabled", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final Map<String, LongAdder> pinnedFrames = new ConcurrentHashMap<>();
+    private final LongAdder totalPinnedNanos = new LongAdder();
+    private final Duration threshold;
+    private final CustomMessageResolver messages;
+    private volatile RecordingStream recording;
+
+    public VirtualThreadPinningMonitor(@Value("${catalog.diagnostics.pinning.threshold:20ms}") Duration threshold,
+                                       CustomMessageResolver messages) {
+        this.threshold = threshold;
+        this.messages = messages;
+    }
+
+    @Override
+    public void start() {
+        var stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        recording = stream;
+        log.info(messages.get("log.pinning.monitor.started"), Runtime.version(), threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        var stream = recording;
+        recording = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        Map<String, Long> frames = new LinkedHashMap<>();
+        pinnedFrames.entrySet().stream()
+                .sorted(Map.Entry.<String, LongAdder>comparingByValue(
+                        (left, right) -> Long.compare(right.sum(), left.sum())))
+                .forEach(entry -> frames.put(entry.getKey(), entry.getValue().sum()));
+
+        return Map.of(
+                "running", isRunning(),
+                "thresholdMillis", threshold.toMillis(),
+                "totalPinnedMillis", Duration.ofNanos(totalPinnedNanos.sum()).toMillis(),
+                "frames", frames
+        );
+    }
+
+    void record(RecordedEvent event) {
+        String frame = culprit(event);
+        totalPinnedNanos.add(event.getDuration().toNanos());
+
+        if (pinnedFrames.putIfAbsent(frame, new LongAdder()) == null) {
+            log.warn(messages.get("log.thread.pinned"), event.getDuration().toMillis(), frame);
+        }
+        pinnedFrames.get(frame).increment();
+    }
+
+    private static String culprit(RecordedEvent event) {
+        var stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<unknown>";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> JDK_PACKAGES.stream().noneMatch(frame.getMethod().getType().getName()::startsWith))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .orElse("<unknown>");
+    }
+}
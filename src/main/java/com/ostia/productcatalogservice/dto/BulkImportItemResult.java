@@ -0,0 +1,17 @@
+package com.ostia.productcatalogservice.dto;
+
+import java.util.UUID;
+
+public record BulkImportItemResult(int index,
+                                   String name,
+                                   Status status,
+                                   UUID id,
+                                   String message) {
+
+    public enum Status {
+        CREATED,
+        ALREADY_EXISTS,
+        DUPLICATE_IN_REQUEST,
+        INVALID
+    }
+}
@@ -0,0 +1,8 @@
+package com.ostia.productcatalogservice.dto;
+
+import java.util.List;
+
+public record BulkImportResult(int created,
+                               int rejected,
+                               List<BulkImportItemResult> items) {
+}
@@ -0,0 +1,7 @@
+package com.ostia.productcatalogservice.dto;
+
+import java.time.Instant;
+
+public record CatalogVersion(long count,
+                             Instant lastModified) {
+}
@@ -0,0 +1,11 @@
+package com.ostia.productcatalogservice.dto;
+
+import com.ostia.productcatalogservice.event.CategoryChangedEvent.ChangeType;
+import java.time.Instant;
+
+public record CategoryChangeDTO(long sequence,
+                                ChangeType type,
+                                String name,
+                                String description,
+                                Instant occurredAt) {
+}
@@ -0,0 +1,10 @@
+package com.ostia.productcatalogservice.dto;
+
+import java.util.List;
+
+/**
+ * {@code next} is the sequence to pass as {@code since} on the following poll.
+ */
+public record CategoryChangeFeed(List<CategoryChangeDTO> changes,
+                                 long next) {
+}
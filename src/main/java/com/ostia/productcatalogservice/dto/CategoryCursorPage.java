@@ -0,0 +1,11 @@
+package com.ostia.productcatalogservice.dto;
+
+import java.util.List;
+
+public record CategoryCursorPage(List<CategoryDTO> content,
+                                 String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ostia.productcatalogservice.dto;
+
+import java.util.List;
+
+/**
+ * {@code found} follows the order of the requested names; {@code missing} keeps their original spelling.
+ */
+public record CategoryLookupResult(List<CategoryDTO> found,
+                                   List<String> missing) {
+}
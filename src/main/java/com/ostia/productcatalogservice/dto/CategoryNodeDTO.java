@@ -0,0 +1,10 @@
+package com.ostia.productcatalogservice.dto;
+
+import java.util.UUID;
+
+public record CategoryNodeDTO(UUID id,
+                              UUID parentId,
+                              String name,
+                              String description,
+                              int depth) {
+}
@@ -0,0 +1,24 @@
+package com.ostia.productcatalogservice.dto;
+
+import org.springframework.data.domain.Page;
+import java.util.List;
+
+/**
+ * Link-free page of categories for service-to-service calls.
+ */
+public record CategoryPageDTO(List<CategoryDTO> content,
+                              int page,
+                              int size,
+                              long totalElements,
+                              int totalPages) {
+
+    public static CategoryPageDTO of(Page<CategoryDTO> page) {
+        return new CategoryPageDTO(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
+}
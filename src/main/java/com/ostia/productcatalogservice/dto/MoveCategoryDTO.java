@@ -0,0 +1,4 @@
+package com.ostia.productcatalogservice.dto;
+
+public record MoveCategoryDTO(String parent) {
+}
@@ -0,0 +1,12 @@
+package com.ostia.productcatalogservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.math.BigDecimal;
+import java.util.Set;
+
+public record UpdateProductDTO(@NotBlank String description,
+                               @NotNull @PositiveOrZero BigDecimal price,
+                               @NotNull Set<@NotBlank String> categories) {
+}
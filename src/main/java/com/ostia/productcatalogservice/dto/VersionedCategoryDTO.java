@@ -0,0 +1,15 @@
+package com.ostia.productcatalogservice.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record VersionedCategoryDTO(UUID id,
+                                   String name,
+                                   String description,
+                                   int version,
+                                   Instant updatedAt) {
+
+    public CategoryDTO toCategoryDTO() {
+        return new CategoryDTO(name, description);
+    }
+}
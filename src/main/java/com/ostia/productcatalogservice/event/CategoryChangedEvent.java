@@ -0,0 +1,26 @@
+package com.ostia.productcatalogservice.event;
+
+/**
+ * Published inside the transaction that changed a category. Listeners that mirror
+ * catalog state should react after commit so rolled-back changes never leak out.
+ */
+public record CategoryChangedEvent(ChangeType type, String name, String description) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static CategoryChangedEvent created(String name, String description) {
+        return new CategoryChangedEvent(ChangeType.CREATED, name, description);
+    }
+
+    public static CategoryChangedEvent updated(String name, String description) {
+        return new CategoryChangedEvent(ChangeType.UPDATED, name, description);
+    }
+
+    public static CategoryChangedEvent deleted(String name) {
+        return new CategoryChangedEvent(ChangeType.DELETED, name, null);
+    }
+}
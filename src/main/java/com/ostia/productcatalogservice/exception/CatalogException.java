@@ -0,0 +1,24 @@
+package com.ostia.productcatalogservice.exception;
+
+/**
+ * Base for the expected failures the API answers with a 4xx or 503. They are ordinary
+ * control flow, so they skip the stack trace and build their message only when
+ * something asks for it.
+ */
+public abstract class CatalogException extends RuntimeException {
+
+    protected CatalogException() {
+        this(null);
+    }
+
+    protected CatalogException(Throwable cause) {
+        super(null, cause, false, false);
+    }
+
+    @Override
+    public String getMessage() {
+        return describe();
+    }
+
+    protected abstract String describe();
+}
@@ -0,0 +1,30 @@
+package com.ostia.productcatalogservice.exception;
+
+public class ConcurrentUpdateException extends CatalogException {
+    private final String entityName;
+    private final String fieldName;
+    private final String fieldValue;
+
+    public ConcurrentUpdateException(String entityName, String fieldName, String fieldValue) {
+        this.entityName = entityName;
+        this.fieldName = fieldName;
+        this.fieldValue = fieldValue;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getFieldValue() {
+        return fieldValue;
+    }
+
+    @Override
+    protected String describe() {
+        return String.format("%s entity with %s '%s' was changed by a concurrent update", entityName, fieldName, fieldValue);
+    }
+}
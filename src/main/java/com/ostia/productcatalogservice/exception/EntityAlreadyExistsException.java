@@ -1,12 +1,11 @@
 package com.ostia.productcatalogservice.exception;
 
-public class EntityAlreadyExistsException  extends RuntimeException{
+public class EntityAlreadyExistsException  extends CatalogException {
     private final String entityName;
     private final String fieldName;
     private final String fieldValue;
 
     public EntityAlreadyExistsException(String entityName, String fieldName, String fieldValue) {
-        super(String.format("%s with %s '%s' already exists", entityName, fieldName, fieldValue));
         this.entityName = entityName;
         this.fieldName = fieldName;
         this.fieldValue = fieldValue;
@@ -23,4 +22,9 @@ public class EntityAlreadyExistsException  extends RuntimeException{
     public String getFieldValue() {
         return fieldValue;
     }
+
+    @Override
+    protected String describe() {
+        return String.format("%s with %s '%s' already exists", entityName, fieldName, fieldValue);
+    }
 }
@@ -1,12 +1,11 @@
 package com.ostia.productcatalogservice.exception;
 
-public class EntityNotFoundException extends RuntimeException {
+public class EntityNotFoundException extends CatalogException {
     private final String entityName;
     private final String fieldName;
     private final String fieldValue;
 
     public EntityNotFoundException(String entityName, String fieldName, String fieldValue) {
-        super(String.format("%s entity with %s '%s' does not exist", entityName, fieldName, fieldValue));
         this.entityName = entityName;
         this.fieldName = fieldName;
         this.fieldValue = fieldValue;
@@ -23,4 +22,9 @@ public class EntityNotFoundException extends RuntimeException {
     public String getFieldValue() {
         return fieldValue;
     }
-}
\ No newline at end of file
+
+    @Override
+    protected String describe() {
+        return String.format("%s entity with %s '%s' does not exist", entityName, fieldName, fieldValue);
+    }
+}
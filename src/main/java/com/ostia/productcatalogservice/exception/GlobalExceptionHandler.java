@@ -1,9 +1,14 @@
 package com.ostia.productcatalogservice.exception;
 
 import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import com.ostia.productcatalogservice.util.LogSampler;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -18,9 +23,12 @@ public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
     private final CustomMessageResolver messages;
+    private final LogSampler clientErrorLog;
 
-    public GlobalExceptionHandler(CustomMessageResolver messages) {
+    public GlobalExceptionHandler(CustomMessageResolver messages,
+                                  @Value("${catalog.errors.client-error-logs-per-second:10}") int clientErrorLogsPerSecond) {
         this.messages = messages;
+        this.clientErrorLog = new LogSampler(clientErrorLogsPerSecond);
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
@@ -58,7 +66,9 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(EntityAlreadyExistsException.class)
     public ResponseEntity<ErrorResponse> handleCategoryAlreadyExists(EntityAlreadyExistsException ex, HttpServletRequest request) {
-        log.error(messages.get("log.entity.exists"), ex.getMessage());
+        if (sampleClientError()) {
+            log.warn(messages.get("log.entity.exists"), ex.getEntityName(), ex.getFieldName(), ex.getFieldValue());
+        }
 
         return buildErrorResponse(
                 request,
@@ -69,7 +79,9 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleEntityNotFound(EntityNotFoundException ex, HttpServletRequest request) {
-        log.error(messages.get("log.entity.notfound"), ex.getEntityName(), ex.getFieldName(), ex.getFieldValue());
+        if (sampleClientError()) {
+            log.warn(messages.get("log.entity.notfound"), ex.getEntityName(), ex.getFieldName(), ex.getFieldValue());
+        }
 
         return buildErrorResponse(
                 request,
@@ -78,6 +90,102 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException ex, HttpServletRequest request) {
+        if (sampleClientError()) {
+            log.warn(messages.get("log.entity.precondition"), ex.getEntityName(), ex.getFieldName(), ex.getFieldValue());
+        }
+
+        return buildErrorResponse(
+                request,
+                HttpStatus.PRECONDITION_FAILED,
+                messages.get("error.entity.precondition", ex.getEntityName(), ex.getFieldName(), ex.getFieldValue())
+        );
+    }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdate(ConcurrentUpdateException ex, HttpServletRequest request) {
+        if (sampleClientError()) {
+            log.warn(messages.get("log.entity.conflict"), ex.getEntityName(), ex.getFieldName(), ex.getFieldValue());
+        }
+
+        return buildErrorResponse(
+                request,
+                HttpStatus.CONFLICT,
+                messages.get("error.entity.conflict", ex.getEntityName(), ex.getFieldName(), ex.getFieldValue())
+        );
+    }
+
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailure(ConcurrencyFailureException ex, HttpServletRequest request) {
+        if (sampleClientError()) {
+            log.warn(messages.get("log.concurrency.failure"), ex.getMostSpecificCause().getMessage());
+        }
+
+        return buildErrorResponse(
+                request,
+                HttpStatus.CONFLICT,
+                messages.get("error.concurrency.failure")
+        );
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex, HttpServletRequest request) {
+        if (sampleClientError()) {
+            log.warn(messages.get("log.cursor.invalid"), ex.getCursor());
+        }
+
+        return buildErrorResponse(
+                request,
+                HttpStatus.BAD_REQUEST,
+                messages.get("error.cursor.invalid")
+        );
+    }
+
+    @ExceptionHandler(InvalidCategoryMoveException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCategoryMove(InvalidCategoryMoveException ex, HttpServletRequest request) {
+        log.error(messages.get("log.category.move.cycle"), ex.getCategoryName(), ex.getParentName());
+
+        return buildErrorResponse(
+                request,
+                HttpStatus.CONFLICT,
+                messages.get("error.category.move.cycle", ex.getCategoryName(), ex.getParentName())
+        );
+    }
+
+    @ExceptionHandler(ServiceAtCapacityException.class)
+    public ResponseEntity<ErrorResponse> handleServiceAtCapacity(ServiceAtCapacityException ex, HttpServletRequest request) {
+        log.warn(messages.get("log.concurrency.rejected"), request.getRequestURI(), ex.getPermits());
+
+        var response = buildErrorResponse(
+                request,
+                HttpStatus.SERVICE_UNAVAILABLE,
+                messages.get("error.concurrency.limit")
+        );
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex, HttpServletRequest request) {
+        log.error(messages.get("log.data.integrity"), ex.getMostSpecificCause().getMessage());
+
+        return buildErrorResponse(
+                request,
+                HttpStatus.CONFLICT,
+                messages.get("error.data.integrity")
+        );
+    }
+
+    private boolean sampleClientError() {
+        long dropped = clientErrorLog.tryAcquire();
+        if (dropped > 0) {
+            log.warn(messages.get("log.client.errors.suppressed"), dropped);
+        }
+        return dropped >= 0;
+    }
+
     private ResponseEntity<ErrorResponse> buildErrorResponse(HttpServletRequest request, HttpStatus status, String message, List<ValidationError> errors) {
         ValidationErrorResponse response = new ValidationErrorResponse(
                 status.value(),
@@ -0,0 +1,24 @@
+package com.ostia.productcatalogservice.exception;
+
+public class InvalidCategoryMoveException extends CatalogException {
+    private final String categoryName;
+    private final String parentName;
+
+    public InvalidCategoryMoveException(String categoryName, String parentName) {
+        this.categoryName = categoryName;
+        this.parentName = parentName;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public String getParentName() {
+        return parentName;
+    }
+
+    @Override
+    protected String describe() {
+        return String.format("Category '%s' cannot be moved under its own subtree '%s'", categoryName, parentName);
+    }
+}
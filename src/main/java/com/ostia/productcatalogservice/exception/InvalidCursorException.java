@@ -0,0 +1,19 @@
+package com.ostia.productcatalogservice.exception;
+
+public class InvalidCursorException extends CatalogException {
+    private final String cursor;
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super(cause);
+        this.cursor = cursor;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    @Override
+    protected String describe() {
+        return String.format("Cursor '%s' is not a valid continuation token", cursor);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ostia.productcatalogservice.exception;
+
+public class ServiceAtCapacityException extends CatalogException {
+    private final String operation;
+    private final int permits;
+
+    public ServiceAtCapacityException(String operation, int permits) {
+        this.operation = operation;
+        this.permits = permits;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    @Override
+    protected String describe() {
+        return String.format("%s found all %d connection permits in use", operation, permits);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ostia.productcatalogservice.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An additive-increase, multiplicative-decrease limit on requests in flight. A
+ * request that finishes within the latency target raises the limit by
+ * {@code 1/limit}, so by about one per limit's worth of requests; a slower one, or
+ * a request that timed out waiting for a connection, cuts it by 10%. Requests
+ * beyond the limit are refused at once instead of queueing for the pool.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+
+    public AdaptiveConcurrencyLimit(int minLimit, int maxLimit, long latencyTargetNanos) {
+        this.minLimit = Math.min(minLimit, maxLimit);
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(maxLimit));
+    }
+
+    public boolean tryAcquire() {
+        int limit = limit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a request whose latency says nothing about load, such as a stream.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        if (latencyNanos > latencyTargetNanos) {
+            decrease();
+        } else {
+            limitBits.getAndUpdate(bits -> {
+                double limit = Double.longBitsToDouble(bits);
+                return Double.doubleToLongBits(Math.min(maxLimit, limit + 1 / limit));
+            });
+        }
+    }
+
+    public void decrease() {
+        limitBits.getAndUpdate(bits ->
+                Double.doubleToLongBits(Math.max(minLimit, Double.longBitsToDouble(bits) * BACKOFF_RATIO)));
+    }
+
+    public int limit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
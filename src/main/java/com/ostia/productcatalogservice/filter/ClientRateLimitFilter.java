@@ -0,0 +1,192 @@
+package com.ostia.productcatalogservice.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ostia.productcatalogservice.common.ApiVersion;
+import com.ostia.productcatalogservice.exception.ErrorResponse;
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Gives every client its own token bucket per budget and answers 429 once it is
+ * empty. Runs after the security filter chain, so clients are told apart by the
+ * JWT subject; anonymous requests fall back to the remote address. Collection
+ * reads (lists, search, export, batch lookup, descendants and ancestors) are by far
+ * the most expensive calls, so they have a budget of their own, separate from
+ * single-item reads and writes.
+ * Idle buckets expire after {@code catalog.rate-limit.idle-expiry}.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@ConditionalOnProperty(name = "catalog.rate-limit.enabled", matchIfMissing = true)
+public class ClientRateLimitFilter extends OncePerRequestFilter {
+
+    public static final String COUNTER_NAME = "catalog.rate-limit.decisions";
+
+    private static final Set<String> COLLECTIONS = Set.of(
+            ApiVersion.V1 + "/categories",
+            ApiVersion.V1 + "/products",
+            ApiVersion.V1 + "/category-changes"
+    );
+    private static final String CATEGORIES_PREFIX = ApiVersion.V1 + "/categories/";
+
+    enum Budget {
+        LIST, READ, WRITE
+    }
+
+    record Limit(double perSecond, int burst) {
+    }
+
+    private record Client(String id, Budget budget) {
+    }
+
+    private final Map<Budget, Limit> limits = new EnumMap<>(Budget.class);
+    private final Map<Budget, Counter> allowed = new EnumMap<>(Budget.class);
+    private final Map<Budget, Counter> rejected = new EnumMap<>(Budget.class);
+    private final Cache<Client, TokenBucket> buckets;
+    private final CustomMessageResolver messages;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public ClientRateLimitFilter(@Value("${catalog.rate-limit.list.per-second:50}") double listPerSecond,
+                                 @Value("${catalog.rate-limit.list.burst:100}") int listBurst,
+                                 @Value("${catalog.rate-limit.read.per-second:500}") double readPerSecond,
+                                 @Value("${catalog.rate-limit.read.burst:1000}") int readBurst,
+                                 @Value("${catalog.rate-limit.write.per-second:50}") double writePerSecond,
+                                 @Value("${catalog.rate-limit.write.burst:100}") int writeBurst,
+                                 @Value("${catalog.rate-limit.idle-expiry:10m}") Duration idleExpiry,
+                                 @Value("${catalog.rate-limit.maximum-clients:100000}") long maximumClients,
+                                 CustomMessageResolver messages,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this(Map.of(
+                Budget.LIST, new Limit(listPerSecond, listBurst),
+                Budget.READ, new Limit(readPerSecond, readBurst),
+                Budget.WRITE, new Limit(writePerSecond, writeBurst)
+        ), idleExpiry, maximumClients, messages, objectMapper, meterRegistry, System::nanoTime);
+    }
+
+    ClientRateLimitFilter(Map<Budget, Limit> limits,
+                          Duration idleExpiry,
+                          long maximumClients,
+                          CustomMessageResolver messages,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          LongSupplier nanoClock) {
+        this.limits.putAll(limits);
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleExpiry)
+                .maximumSize(maximumClients)
+                .build();
+        this.messages = messages;
+        this.objectMapper = objectMapper;
+        this.nanoClock = nanoClock;
+        for (Budget budget : Budget.values()) {
+            allowed.put(budget, decisions(meterRegistry, budget, "allowed"));
+            rejected.put(budget, decisions(meterRegistry, budget, "rejected"));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(ApiVersion.V1);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Budget budget = budget(request);
+        var bucket = buckets.get(new Client(clientId(request), budget), this::newBucket);
+        long waitNanos = bucket.tryAcquire(nanoClock.getAsLong());
+        if (waitNanos > 0) {
+            rejected.get(budget).increment();
+            reject(request, response, waitNanos);
+            return;
+        }
+
+        allowed.get(budget).increment();
+        chain.doFilter(request, response);
+    }
+
+    static Budget budget(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return Budget.WRITE;
+        }
+        String uri = request.getRequestURI();
+        return COLLECTIONS.contains(uri) || isSubtreeRead(uri) ? Budget.LIST : Budget.READ;
+    }
+
+    /**
+     * Descendants can return up to a thousand nodes, so they and the ancestor chain
+     * are charged like a list, not like a single category.
+     */
+    private static boolean isSubtreeRead(String uri) {
+        return uri.startsWith(CATEGORIES_PREFIX) && (uri.endsWith("/descendants") || uri.endsWith("/ancestors"));
+    }
+
+    private static String clientId(HttpServletRequest request) {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "sub:" + authentication.getName();
+        }
+        return "addr:" + request.getRemoteAddr();
+    }
+
+    private TokenBucket newBucket(Client client) {
+        var limit = limits.get(client.budget());
+        return new TokenBucket(limit.perSecond(), limit.burst());
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        var status = HttpStatus.TOO_MANY_REQUESTS;
+        var body = new ErrorResponse(
+                status.value(),
+                status.getReasonPhrase(),
+                messages.get("error.rate.limit"),
+                request.getRequestURI()
+        );
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static Counter decisions(MeterRegistry registry, Budget budget, String outcome) {
+        return Counter.builder(COUNTER_NAME)
+                .description("Requests admitted or refused by the per-client rate limiter")
+                .tag("budget", budget.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,162 @@
+package com.ostia.productcatalogservice.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ostia.productcatalogservice.common.ApiVersion;
+import com.ostia.productcatalogservice.exception.ErrorResponse;
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Puts an {@link AdaptiveConcurrencyLimit} in front of the API. It tightens when
+ * requests slow down past {@code catalog.load-shedding.latency-target}, or when the
+ * connection bulkhead ({@code ConnectionBulkheadAspect}) turns a request away, so an
+ * overloaded instance sheds requests immediately instead of letting them pile up
+ * waiting for connections. Bulk imports and subtree moves are slow by design, so
+ * they hold a slot but their latency is not fed back into the limit.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.load-shedding.enabled", matchIfMissing = true)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    public static final String COUNTER_NAME = "catalog.load.shed";
+
+    private final AdaptiveConcurrencyLimit adaptiveLimit;
+    private final CustomMessageResolver messages;
+    private final ObjectMapper objectMapper;
+    private final Counter shed;
+
+    public LoadSheddingFilter(@Value("${catalog.load-shedding.min-limit:4}") int minLimit,
+                              @Value("${catalog.load-shedding.max-limit:200}") int maxLimit,
+                              @Value("${catalog.load-shedding.latency-target:250ms}") Duration latencyTarget,
+                              CustomMessageResolver messages,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.adaptiveLimit = new AdaptiveConcurrencyLimit(minLimit, maxLimit, latencyTarget.toNanos());
+        this.messages = messages;
+        this.objectMapper = objectMapper;
+        this.shed = Counter.builder(COUNTER_NAME)
+                .description("Requests turned away with 503 before reaching the connection pool")
+                .tag("reason", "adaptive-limit")
+                .register(meterRegistry);
+        Gauge.builder("catalog.load.concurrency.limit", adaptiveLimit, AdaptiveConcurrencyLimit::limit)
+                .description("Requests the adaptive limit currently admits at once")
+                .register(meterRegistry);
+        Gauge.builder("catalog.load.in.flight", adaptiveLimit, AdaptiveConcurrencyLimit::inFlight)
+                .description("API requests currently admitted")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(ApiVersion.V1);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        if (!adaptiveLimit.tryAcquire()) {
+            shed.increment();
+            reject(request, response);
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // A streamed response's duration says nothing about load.
+                request.getAsyncContext().addListener(new ReleasingListener());
+            } else if (response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                // Turned away by the connection bulkhead.
+                adaptiveLimit.release();
+                adaptiveLimit.decrease();
+            } else if (isLongRunningWrite(request)) {
+                // Slow by design, so its latency is no sign of overload.
+                adaptiveLimit.release();
+            } else {
+                adaptiveLimit.release(System.nanoTime() - started);
+            }
+        }
+    }
+
+    static boolean isLongRunningWrite(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return HttpMethod.POST.matches(request.getMethod()) && uri.endsWith("/bulk")
+                || HttpMethod.PUT.matches(request.getMethod()) && uri.endsWith("/parent");
+    }
+
+    int concurrencyLimit() {
+        return adaptiveLimit.limit();
+    }
+
+    int inFlight() {
+        return adaptiveLimit.inFlight();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var status = HttpStatus.SERVICE_UNAVAILABLE;
+        var body = new ErrorResponse(
+                status.value(),
+                status.getReasonPhrase(),
+                messages.get("error.concurrency.limit"),
+                request.getRequestURI()
+        );
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private final class ReleasingListener implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                adaptiveLimit.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ostia.productcatalogservice.mapper;
+
+import com.ostia.productcatalogservice.dto.ProductDTO;
+import com.ostia.productcatalogservice.model.Category;
+import com.ostia.productcatalogservice.model.Product;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+public class ProductMapper {
+
+    public static ProductDTO EntityToDTO(Product product) {
+
+        if(Objects.isNull(product)) {
+            throw new IllegalArgumentException("The product entity is null");
+        }
+
+        return new ProductDTO(
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getCategories().stream()
+                        .map(Category::getName)
+                        .collect(Collectors.toCollection(TreeSet::new))
+        );
+    }
+}
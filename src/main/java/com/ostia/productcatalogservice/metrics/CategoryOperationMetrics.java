@@ -0,0 +1,100 @@
+package com.ostia.productcatalogservice.metrics;
+
+import com.ostia.productcatalogservice.exception.ConcurrentUpdateException;
+import com.ostia.productcatalogservice.exception.EntityAlreadyExistsException;
+import com.ostia.productcatalogservice.exception.EntityNotFoundException;
+import com.ostia.productcatalogservice.exception.InvalidCategoryMoveException;
+import com.ostia.productcatalogservice.exception.InvalidCursorException;
+import com.ostia.productcatalogservice.exception.PreconditionFailedException;
+import com.ostia.productcatalogservice.exception.ServiceAtCapacityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public category service call. Runs outside the cache and transaction
+ * advice so the recorded latency is what the controller sees, cache hits included.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CategoryOperationMetrics {
+
+    public static final String TIMER_NAME = "catalog.category.operation";
+
+    private final MeterRegistry registry;
+
+    public CategoryOperationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.ostia.productcatalogservice.service.CategoryService.*(..))"
+            + " || execution(public * com.ostia.productcatalogservice.service.CategoryImportService.*(..))"
+            + " || execution(public * com.ostia.productcatalogservice.service.CategoryTreeService.*(..))"
+            + " || execution(public * com.ostia.productcatalogservice.service.CategoryLookupService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        var sample = Timer.start(registry);
+        String operation = operation(joinPoint.getSignature().getName());
+        String outcome = success(operation);
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = outcome(ex);
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .description("Latency of category service operations")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    private static String operation(String methodName) {
+        return switch (methodName) {
+            case "addCategory" -> "add";
+            case "getCategory" -> "get";
+            case "getCategories" -> "batch-get";
+            case "updateCategory" -> "update";
+            case "deleteCategory" -> "delete";
+            case "getAllCategories", "getCategoriesAfter" -> "list";
+            case "getCatalogVersion" -> "version";
+            case "exportCategories" -> "export";
+            case "importCategories" -> "import";
+            case "getDescendants" -> "descendants";
+            case "getAncestors" -> "ancestors";
+            case "moveCategory" -> "move";
+            default -> methodName;
+        };
+    }
+
+    /**
+     * Lookups by name answer {@code found} so they read as the counterpart of {@code not-found}.
+     */
+    private static String success(String operation) {
+        return switch (operation) {
+            case "get", "descendants", "ancestors" -> "found";
+            default -> "success";
+        };
+    }
+
+    private static String outcome(Throwable ex) {
+        return switch (ex) {
+            case EntityNotFoundException _ -> "not-found";
+            case EntityAlreadyExistsException _ -> "conflict";
+            case PreconditionFailedException _ -> "precondition-failed";
+            case InvalidCursorException _ -> "invalid";
+            case InvalidCategoryMoveException _ -> "conflict";
+            case ConcurrentUpdateException _, ConcurrencyFailureException _ -> "conflict";
+            case ServiceAtCapacityException _ -> "rejected";
+            default -> "error";
+        };
+    }
+}
@@ -5,17 +5,36 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
 
 @Entity
 @Table(name = "CATEGORY")
 public class Category extends BaseEntity{
 
+    public static final String ROOT_PATH = "/";
+
     @Column(nullable = false, unique = true)
     @NotBlank(message = "Name must not be blank")
     private String name;
 
+    /**
+     * {@code LOWER(name)}, computed by the database and backed by a unique index;
+     * every case-insensitive name lookup goes through it.
+     */
+    @Column(name = "name_key", insertable = false, updatable = false)
+    private String nameKey;
+
     private String description;
 
+    @Column(name = "parent_id")
+    private UUID parentId;
+
+    @Column(nullable = false, length = 2048)
+    private String path = ROOT_PATH;
+
+    @Column(nullable = false)
+    private int depth;
+
     public String getName() {
         return name;
     }
@@ -31,4 +50,35 @@ public class Category extends BaseEntity{
     public void setDescription(@NotNull String description) {
         this.description = description;
     }
-}
\ No newline at end of file
+
+    public UUID getParentId() {
+        return parentId;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Path prefix shared by every descendant: the ancestors' ids followed by this id.
+     */
+    public String getSubtreePath() {
+        return path + getId() + "/";
+    }
+
+    public void placeUnder(Category parent) {
+        if (parent == null) {
+            this.parentId = null;
+            this.path = ROOT_PATH;
+            this.depth = 0;
+        } else {
+            this.parentId = parent.getId();
+            this.path = parent.getSubtreePath();
+            this.depth = parent.getDepth() + 1;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ostia.productcatalogservice.model;
+
+import com.ostia.productcatalogservice.event.CategoryChangedEvent;
+import com.ostia.productcatalogservice.event.CategoryChangedEvent.ChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * Outbox row written in the transaction that changed the category. {@code sequence}
+ * stays null until the publisher hands the row to the sink; the publisher assigns
+ * sequences in order, so the feed never gains an entry below one it already served.
+ */
+@Entity
+@Table(name = "CATEGORY_CHANGE")
+public class CategoryChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_change_id")
+    @SequenceGenerator(name = "category_change_id", sequenceName = "CATEGORY_CHANGE_ID_SEQ", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private ChangeType type;
+
+    @Column(nullable = false, updatable = false)
+    private String categoryName;
+
+    @Column(updatable = false)
+    private String description;
+
+    @Column(nullable = false, updatable = false)
+    private Instant occurredAt;
+
+    private Long sequence;
+
+    private Instant publishedAt;
+
+    protected CategoryChange() {
+    }
+
+    public CategoryChange(CategoryChangedEvent event, Instant occurredAt) {
+        this.type = event.type();
+        this.categoryName = event.name();
+        this.description = event.description();
+        this.occurredAt = occurredAt;
+    }
+
+    public void markPublished(long sequence, Instant publishedAt) {
+        this.sequence = sequence;
+        this.publishedAt = publishedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ostia.productcatalogservice.outbox;
+
+import com.ostia.productcatalogservice.event.CategoryChangedEvent;
+import com.ostia.productcatalogservice.model.CategoryChange;
+import com.ostia.productcatalogservice.repository.CategoryChangeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Clock;
+
+/**
+ * Records every category change in the transaction that made it, so a change is
+ * in the outbox if and only if it committed.
+ */
+@Component
+public class CategoryChangeOutbox {
+
+    private final CategoryChangeRepository changeRepository;
+    private final Clock clock;
+
+    @Autowired
+    public CategoryChangeOutbox(CategoryChangeRepository changeRepository) {
+        this(changeRepository, Clock.systemUTC());
+    }
+
+    CategoryChangeOutbox(CategoryChangeRepository changeRepository, Clock clock) {
+        this.changeRepository = changeRepository;
+        this.clock = clock;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        changeRepository.save(new CategoryChange(event, clock.instant()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.ostia.productcatalogservice.outbox;
+
+import com.ostia.productcatalogservice.dto.CategoryChangeDTO;
+import com.ostia.productcatalogservice.model.CategoryChange;
+import com.ostia.productcatalogservice.repository.CategoryChangeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * Drains the outbox in id order. Each batch locks its rows, takes the next feed
+ * sequences after the highest one already assigned, hands the batch to the sink
+ * and marks it published, all in one transaction. The row lock serialises
+ * publishers across instances, so sequences stay gap-free and increasing.
+ */
+@Component
+public class CategoryChangePublisher {
+
+    private final CategoryChangeRepository changeRepository;
+    private final CategoryChangeSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter published;
+    private final Clock clock = Clock.systemUTC();
+
+    public CategoryChangePublisher(CategoryChangeRepository changeRepository,
+                                   CategoryChangeSink sink,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${catalog.outbox.batch-size:500}") int batchSize) {
+        this.changeRepository = changeRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.published = Counter.builder("catalog.outbox.published")
+                .description("Category changes handed to the outbox sink")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.outbox.poll-interval:1s}")
+    public void drain() {
+        int count;
+        do {
+            count = publishBatch();
+        } while (count == batchSize);
+    }
+
+    public int publishBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<CategoryChange> pending = changeRepository.findBySequenceIsNullOrderById(Limit.of(batchSize));
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            long sequence = changeRepository.findLastSequence();
+            var now = clock.instant();
+            for (var change : pending) {
+                change.markPublished(++sequence, now);
+            }
+            sink.publish(pending.stream().map(CategoryChangePublisher::toDTO).toList());
+            return pending.size();
+        });
+
+        published.increment(count);
+        return count;
+    }
+
+    private static CategoryChangeDTO toDTO(CategoryChange change) {
+        return new CategoryChangeDTO(
+                change.getSequence(),
+                change.getType(),
+                change.getCategoryName(),
+                change.getDescription(),
+                change.getOccurredAt()
+        );
+    }
+}
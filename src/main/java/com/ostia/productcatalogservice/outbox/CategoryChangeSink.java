@@ -0,0 +1,15 @@
+package com.ostia.productcatalogservice.outbox;
+
+import com.ostia.productcatalogservice.dto.CategoryChangeDTO;
+import java.util.List;
+
+/**
+ * Destination for published changes. Called inside the publisher's transaction:
+ * throwing rolls the batch back and it is offered again on the next poll, so
+ * delivery is at least once and sinks should tolerate repeated sequences.
+ */
+@FunctionalInterface
+public interface CategoryChangeSink {
+
+    void publish(List<CategoryChangeDTO> changes);
+}
@@ -0,0 +1,39 @@
+package com.ostia.productcatalogservice.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ostia.productcatalogservice.dto.CategoryChangeDTO;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each change as one JSON line. Meant for local runs and tests.
+ */
+public class FileCategoryChangeSink implements CategoryChangeSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileCategoryChangeSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<CategoryChangeDTO> changes) {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (var change : changes) {
+                writer.write(objectMapper.writeValueAsString(change));
+                writer.newLine();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
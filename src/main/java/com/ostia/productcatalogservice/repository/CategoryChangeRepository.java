@@ -0,0 +1,28 @@
+package com.ostia.productcatalogservice.repository;
+
+import com.ostia.productcatalogservice.dto.CategoryChangeDTO;
+import com.ostia.productcatalogservice.model.CategoryChange;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface CategoryChangeRepository extends JpaRepository<CategoryChange, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<CategoryChange> findBySequenceIsNullOrderById(Limit limit);
+
+    @Query("select coalesce(max(c.sequence), 0) from CategoryChange c")
+    long findLastSequence();
+
+    @Query("""
+            select new com.ostia.productcatalogservice.dto.CategoryChangeDTO(c.sequence, c.type, c.categoryName, c.description, c.occurredAt)
+            from CategoryChange c
+            where c.sequence > :since
+            order by c.sequence
+            """)
+    List<CategoryChangeDTO> findPublishedAfter(@Param("since") long since, Limit limit);
+}
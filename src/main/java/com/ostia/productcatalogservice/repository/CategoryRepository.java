@@ -1,14 +1,143 @@
 package com.ostia.productcatalogservice.repository;
 
+import com.ostia.productcatalogservice.dto.CatalogVersion;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.dto.CategoryNodeDTO;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
 import com.ostia.productcatalogservice.model.Category;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
-    boolean existsByName(String name);
-    Category findByName(String name);
-    void deleteByName(String name);
-    Optional<Category> findByNameIgnoreCase(String name);
-}
\ No newline at end of file
+    @Query("select count(c) > 0 from Category c where c.nameKey = lower(:name)")
+    boolean existsByNameIgnoreCase(@Param("name") String name);
+
+    @Query("select c from Category c where c.nameKey = lower(:name)")
+    Optional<Category> findByNameIgnoreCase(@Param("name") String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Category c where c.nameKey = lower(:name)")
+    Optional<Category> lockByNameIgnoreCase(@Param("name") String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Category c where c.id in :ids order by c.id")
+    List<Category> lockAllById(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            select new com.ostia.productcatalogservice.dto.VersionedCategoryDTO(c.id, c.name, c.description, c.version, c.updatedAt)
+            from Category c
+            where c.nameKey = lower(:name)
+            """)
+    Optional<VersionedCategoryDTO> findVersionedByNameIgnoreCase(@Param("name") String name);
+
+    @Query("""
+            select new com.ostia.productcatalogservice.dto.VersionedCategoryDTO(c.id, c.name, c.description, c.version, c.updatedAt)
+            from Category c
+            where c.nameKey in :names
+            """)
+    List<VersionedCategoryDTO> findVersionedByLowerNameIn(@Param("names") Collection<String> names);
+
+    @Query("""
+            select new com.ostia.productcatalogservice.dto.VersionedCategoryDTO(c.id, c.name, c.description, c.version, c.updatedAt)
+            from Category c
+            """)
+    List<VersionedCategoryDTO> findVersionedBy(Pageable pageable);
+
+    @Query("select new com.ostia.productcatalogservice.dto.CatalogVersion(count(c), max(c.updatedAt)) from Category c")
+    CatalogVersion findCatalogVersion();
+
+    @Modifying
+    @Query("""
+            update Category c
+            set c.description = :description, c.version = c.version + 1, c.updatedAt = :updatedAt
+            where c.id = :id and c.version = :version
+            """)
+    int updateDescription(@Param("id") UUID id,
+                          @Param("description") String description,
+                          @Param("version") int version,
+                          @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("delete from Category c where c.nameKey = lower(:name)")
+    int bulkDeleteByNameIgnoreCase(@Param("name") String name);
+
+    @Modifying
+    @Query("delete from Category c where c.nameKey = lower(:name) and c.version = :version")
+    int bulkDeleteByNameIgnoreCaseAndVersion(@Param("name") String name, @Param("version") int version);
+
+    @Query("select c from Category c where c.name > :name order by c.name")
+    Slice<Category> findSliceAfterName(@Param("name") String name, Pageable pageable);
+
+    @Query("""
+            select c from Category c
+            where c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)
+            order by c.createdAt, c.id
+            """)
+    Slice<Category> findSliceAfterCreated(@Param("createdAt") Instant createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable pageable);
+
+    @Query("select c from Category c where c.nameKey in :names")
+    List<Category> findAllByLowerNameIn(@Param("names") Collection<String> names);
+
+    @Query("select c.nameKey from Category c where c.nameKey in :names")
+    Set<String> findExistingNamesIgnoreCase(@Param("names") Collection<String> names);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new com.ostia.productcatalogservice.dto.CategoryDTO(c.name, c.description) from Category c order by c.name")
+    Stream<CategoryDTO> streamAll();
+
+    @Query("""
+            select new com.ostia.productcatalogservice.dto.CategoryNodeDTO(c.id, c.parentId, c.name, c.description, c.depth)
+            from Category c
+            where c.path like :subtreePath and c.depth <= :maxDepth
+            order by c.depth, c.name
+            """)
+    List<CategoryNodeDTO> findSubtree(@Param("subtreePath") String subtreePath,
+                                      @Param("maxDepth") int maxDepth,
+                                      Pageable pageable);
+
+    @Query("""
+            select new com.ostia.productcatalogservice.dto.CategoryNodeDTO(c.id, c.parentId, c.name, c.description, c.depth)
+            from Category c
+            where c.id in :ids
+            order by c.depth
+            """)
+    List<CategoryNodeDTO> findNodesById(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("""
+            update Category c
+            set c.path = concat(:newSubtreePath, substring(c.path, :oldSubtreePathLength + 1)),
+                c.depth = c.depth + :depthDelta,
+                c.version = c.version + 1,
+                c.updatedAt = :updatedAt
+            where c.path like :oldSubtreePattern
+            """)
+    int moveSubtree(@Param("oldSubtreePattern") String oldSubtreePattern,
+                    @Param("oldSubtreePathLength") int oldSubtreePathLength,
+                    @Param("newSubtreePath") String newSubtreePath,
+                    @Param("depthDelta") int depthDelta,
+                    @Param("updatedAt") Instant updatedAt);
+}
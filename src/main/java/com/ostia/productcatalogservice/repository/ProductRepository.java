@@ -0,0 +1,22 @@
+package com.ostia.productcatalogservice.repository;
+
+import com.ostia.productcatalogservice.model.Product;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ProductRepository extends JpaRepository<Product, UUID> {
+
+    boolean existsByNameIgnoreCase(String name);
+
+    @EntityGraph(attributePaths = "categories")
+    Optional<Product> findWithCategoriesByNameIgnoreCase(String name);
+
+    @Modifying
+    @Query("delete from Product p where lower(p.name) = lower(:name)")
+    int bulkDeleteByNameIgnoreCase(@Param("name") String name);
+}
@@ -0,0 +1,161 @@
+package com.ostia.productcatalogservice.representation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ostia.productcatalogservice.assembler.CategoryModelAssembler;
+import com.ostia.productcatalogservice.common.CatalogMediaTypes;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.event.CategoryChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.ostia.productcatalogservice.common.CacheNames.categoryKey;
+
+/**
+ * Encoded single-category bodies, keyed by id and {@code @Version}. A new version is a
+ * new key, so a stale body can never be served; evicting on change only frees memory.
+ * HAL bodies embed absolute links, so they are also keyed by the request's base URI.
+ * The keys are also indexed by category name, so evicting one category touches only
+ * its own entries.
+ */
+@Component
+public class CategoryRepresentationCache {
+
+    public static final List<MediaType> VARIANTS = List.of(
+            MediaType.APPLICATION_JSON,
+            MediaTypes.HAL_JSON,
+            MediaType.APPLICATION_CBOR,
+            CatalogMediaTypes.SMILE
+    );
+
+    private final Cache<Key, Entry> cache;
+    private final ConcurrentMap<String, Set<Key>> keysByName = new ConcurrentHashMap<>();
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper halMapper;
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+    private final CategoryModelAssembler assembler;
+
+    public CategoryRepresentationCache(ObjectMapper objectMapper,
+                                       CategoryModelAssembler assembler,
+                                       MeterRegistry registry,
+                                       @Value("${catalog.representation-cache.maximum-bytes:16777216}") long maximumBytes) {
+        this.jsonMapper = objectMapper;
+        this.halMapper = objectMapper.copy().registerModule(new Jackson2HalModule());
+        this.halMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        this.assembler = assembler;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, Entry entry) -> entry.body().length)
+                .evictionListener((Key key, Entry entry, RemovalCause cause) -> {
+                    if (key != null && entry != null) {
+                        unindex(entry.name(), key);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "category-representations");
+    }
+
+    public byte[] get(VersionedCategoryDTO category, MediaType variant) {
+        String scope = MediaTypes.HAL_JSON.equals(variant) ? CategoryModelAssembler.baseHref() : "";
+        var key = new Key(category.id(), category.version(), variant, scope);
+        return cache.get(key, ignored -> {
+            var entry = new Entry(category.name(), encode(category, variant));
+            index(entry.name(), key);
+            return entry;
+        }).body();
+    }
+
+    /**
+     * Encodes every variant that does not depend on the request. HAL bodies carry
+     * absolute links, so they can only be cached once a request supplies the base URI.
+     */
+    public void preload(VersionedCategoryDTO category) {
+        for (MediaType variant : VARIANTS) {
+            if (!MediaTypes.HAL_JSON.equals(variant)) {
+                get(category, variant);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.type() != CategoryChangedEvent.ChangeType.CREATED) {
+            var keys = keysByName.remove(categoryKey(event.name()));
+            if (keys != null) {
+                cache.invalidateAll(keys);
+            }
+        }
+    }
+
+    private void index(String name, Key key) {
+        keysByName.compute(categoryKey(name), (ignored, keys) -> {
+            var indexed = keys != null ? keys : ConcurrentHashMap.<Key>newKeySet();
+            indexed.add(key);
+            return indexed;
+        });
+    }
+
+    private void unindex(String name, Key key) {
+        keysByName.computeIfPresent(categoryKey(name), (ignored, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    int indexedNames() {
+        cache.cleanUp();
+        return keysByName.size();
+    }
+
+    private byte[] encode(VersionedCategoryDTO category, MediaType variant) {
+        try {
+            if (MediaTypes.HAL_JSON.equals(variant)) {
+                return halMapper.writeValueAsBytes(assembler.toModel(category.toCategoryDTO()));
+            }
+            return mapperFor(variant).writeValueAsBytes(category.toCategoryDTO());
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private ObjectMapper mapperFor(MediaType variant) {
+        if (MediaType.APPLICATION_CBOR.equals(variant)) {
+            return cborMapper;
+        }
+        return CatalogMediaTypes.SMILE.equals(variant) ? smileMapper : jsonMapper;
+    }
+
+    private record Key(UUID id, int version, MediaType variant, String scope) {
+    }
+
+    private record Entry(String name, byte[] body) {
+    }
+}
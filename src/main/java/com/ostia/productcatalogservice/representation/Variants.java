@@ -0,0 +1,46 @@
+package com.ostia.productcatalogservice.representation;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.web.server.ResponseStatusException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Picks which pre-encoded variant to write for an {@code Accept} header, the same
+ * way message-converter negotiation would: highest quality first, then header order.
+ */
+public final class Variants {
+
+    private Variants() {
+    }
+
+    public static MediaType negotiate(@Nullable String accept, List<MediaType> variants) {
+        if (accept == null || accept.isBlank()) {
+            return variants.getFirst();
+        }
+
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept).stream()
+                    .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                    .toList();
+        } catch (InvalidMediaTypeException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, ex.getMessage());
+        }
+
+        for (var requested : acceptable) {
+            if (requested.getQualityValue() == 0) {
+                continue;
+            }
+            for (var variant : variants) {
+                if (requested.includes(variant)) {
+                    return variant;
+                }
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "Acceptable representations: " + variants);
+    }
+}
@@ -0,0 +1,432 @@
+package com.ostia.productcatalogservice.search;
+
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.event.CategoryChangedEvent;
+import com.ostia.productcatalogservice.service.CategoryService;
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over category names and descriptions. Terms live in
+ * sorted maps so the last query word can be matched as a prefix by walking a
+ * sub-map; every other word must match a whole term, and the rarest of those
+ * seeds the candidates. Every candidate is scored and only the best {@code limit}
+ * are kept in a bounded heap, so rankings are exact.
+ * <p>
+ * A query with more than {@value #CACHED_HITS} candidates, such as a one-letter
+ * prefix, keeps its best {@value #CACHED_HITS} hits once it has been scored. Writes
+ * update those lists in place: a better hit is inserted and a changed or deleted one
+ * is dropped, so a list stays the exact top of its query until fewer hits remain
+ * than a caller asks for and the query is scored again.
+ * <p>
+ * Reads are lock-free; writes are serialised and applied after commit. Each
+ * instance holds its own copy, so it is also rebuilt from the database every
+ * {@code catalog.search.rebuild-interval} to pick up changes committed elsewhere.
+ */
+@Component
+public class CategorySearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorySearchIndex.class);
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int CACHED_HITS = 200;
+    private static final int MAX_CACHED_QUERIES = 4096;
+    private static final Comparator<ScoredCategory> RANKING = Comparator.comparingInt(ScoredCategory::score).reversed()
+            .thenComparingInt(hit -> hit.document().name().length())
+            .thenComparing(hit -> hit.document().normalizedName());
+
+    private final Map<String, IndexedCategory> documents = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<String>> nameTerms = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Set<String>> descriptionTerms = new ConcurrentSkipListMap<>();
+    private final Map<String, TopHits> topHits = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> cachedQueriesByPrefix = new HashMap<>();
+    private final ReentrantLock rebuilding = new ReentrantLock();
+    private final CategoryService categoryService;
+    private final CustomMessageResolver messages;
+
+    private Set<String> changedWhileLoading;
+    private volatile long writes;
+    private volatile boolean built;
+
+    public CategorySearchIndex(CategoryService categoryService, CustomMessageResolver messages) {
+        this.categoryService = categoryService;
+        this.messages = messages;
+    }
+
+    /**
+     * Builds the index unless the warm-up already did, before the instance became ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!built) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reloads every category and drops documents whose rows are gone. Changes that
+     * arrive while the export runs win over the rows it returns.
+     */
+    @Scheduled(initialDelayString = "${catalog.search.rebuild-interval:10m}",
+            fixedDelayString = "${catalog.search.rebuild-interval:10m}")
+    public void rebuild() {
+        if (!rebuilding.tryLock()) {
+            return;
+        }
+        try {
+            Set<String> loaded = ConcurrentHashMap.newKeySet();
+            synchronized (this) {
+                changedWhileLoading = ConcurrentHashMap.newKeySet();
+            }
+            try {
+                categoryService.exportCategories(category -> putLoaded(category, loaded));
+                synchronized (this) {
+                    for (String key : List.copyOf(documents.keySet())) {
+                        if (!loaded.contains(key) && !changedWhileLoading.contains(key)) {
+                            unlink(documents.remove(key));
+                        }
+                    }
+                }
+                built = true;
+            } finally {
+                synchronized (this) {
+                    changedWhileLoading = null;
+                }
+            }
+            log.info(messages.get("log.search.indexed"), documents.size());
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> put(event.name(), event.description());
+            case DELETED -> remove(event.name());
+        }
+    }
+
+    public synchronized void put(String name, String description) {
+        var key = key(name);
+        if (changedWhileLoading != null) {
+            changedWhileLoading.add(key);
+        }
+        index(key, name, description);
+    }
+
+    public synchronized void remove(String name) {
+        var key = key(name);
+        if (changedWhileLoading != null) {
+            changedWhileLoading.add(key);
+        }
+        unlink(documents.remove(key));
+    }
+
+    public List<CategoryDTO> search(String query, int limit) {
+        List<String> terms = tokens(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        var parsed = new Query(String.join(" ", terms), terms.subList(0, terms.size() - 1), terms.getLast());
+
+        var cached = topHits.get(parsed.key());
+        if (cached != null && cached.hits().size() >= limit) {
+            return toCategories(cached.hits().subList(0, limit));
+        }
+
+        long writesBefore = writes;
+        Set<String> candidates = new LinkedHashSet<>();
+        if (parsed.wholeTerms().isEmpty()) {
+            collectPrefix(nameTerms, parsed.prefix(), candidates);
+            collectPrefix(descriptionTerms, parsed.prefix(), candidates);
+        } else {
+            collectRarest(parsed.wholeTerms(), candidates);
+        }
+
+        if (candidates.size() <= CACHED_HITS || limit > CACHED_HITS) {
+            return toCategories(rank(parsed, candidates, limit));
+        }
+        List<ScoredCategory> hits = rank(parsed, candidates, CACHED_HITS);
+        cache(parsed, hits, writesBefore);
+        return toCategories(hits.subList(0, Math.min(limit, hits.size())));
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private synchronized void putLoaded(CategoryDTO category, Set<String> loaded) {
+        var key = key(category.name());
+        loaded.add(key);
+        if (changedWhileLoading.contains(key)) {
+            return;
+        }
+        var current = documents.get(key);
+        if (current == null || !current.name().equals(category.name())
+                || !Objects.equals(current.description(), category.description())) {
+            index(key, category.name(), category.description());
+        }
+    }
+
+    private void index(String key, String name, String description) {
+        unlink(documents.get(key));
+
+        var document = new IndexedCategory(name, description, phrase(name), tokens(name), tokens(description));
+        documents.put(key, document);
+        link(nameTerms, document.nameTokens(), key);
+        link(descriptionTerms, document.descriptionTokens(), key);
+        offer(document);
+    }
+
+    private List<ScoredCategory> rank(Query query, Set<String> candidates, int limit) {
+        var best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (String key : candidates) {
+            var document = documents.get(key);
+            if (document != null) {
+                int score = score(document, query);
+                if (score > 0) {
+                    best.add(new ScoredCategory(document, score));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+        return best.stream().sorted(RANKING).toList();
+    }
+
+    private static List<CategoryDTO> toCategories(List<ScoredCategory> hits) {
+        return hits.stream()
+                .map(hit -> new CategoryDTO(hit.document().name(), hit.document().description()))
+                .toList();
+    }
+
+    /**
+     * Keeps the hits unless a write landed while they were being scored, in which
+     * case the next search scores the query again.
+     */
+    private synchronized void cache(Query query, List<ScoredCategory> hits, long writesBefore) {
+        if (writes != writesBefore) {
+            return;
+        }
+        if (topHits.size() >= MAX_CACHED_QUERIES) {
+            topHits.clear();
+            cachedQueriesByPrefix.clear();
+        }
+        topHits.put(query.key(), new TopHits(query, hits));
+        cachedQueriesByPrefix.computeIfAbsent(query.prefix(), prefix -> new HashSet<>()).add(query.key());
+    }
+
+    /**
+     * Inserts a new or changed document into every cached list it now ranks in. Only
+     * a hit that beats the last one is inserted, since the hits below it are unknown.
+     */
+    private void offer(IndexedCategory document) {
+        writes++;
+        for (var cached : cachedQueriesMatching(document)) {
+            int score = score(document, cached.query());
+            if (score == 0) {
+                continue;
+            }
+            var hit = new ScoredCategory(document, score);
+            List<ScoredCategory> hits = cached.hits();
+            if (hits.isEmpty() || RANKING.compare(hit, hits.getLast()) >= 0) {
+                continue;
+            }
+            var updated = new ArrayList<>(hits);
+            int position = Collections.binarySearch(updated, hit, RANKING);
+            updated.add(position < 0 ? -position - 1 : position, hit);
+            if (updated.size() > CACHED_HITS) {
+                updated.removeLast();
+            }
+            topHits.put(cached.query().key(), new TopHits(cached.query(), List.copyOf(updated)));
+        }
+    }
+
+    private void withdraw(IndexedCategory document) {
+        writes++;
+        for (var cached : cachedQueriesMatching(document)) {
+            if (cached.hits().stream().anyMatch(hit -> hit.document() == document)) {
+                var remaining = cached.hits().stream().filter(hit -> hit.document() != document).toList();
+                topHits.put(cached.query().key(), new TopHits(cached.query(), remaining));
+            }
+        }
+    }
+
+    /**
+     * A document can only match a cached query whose prefix starts one of its tokens.
+     */
+    private List<TopHits> cachedQueriesMatching(IndexedCategory document) {
+        if (topHits.isEmpty()) {
+            return List.of();
+        }
+        Set<String> keys = new HashSet<>();
+        for (var tokens : List.of(document.nameTokens(), document.descriptionTokens())) {
+            for (String token : tokens) {
+                for (int end = 1; end <= token.length(); end++) {
+                    keys.addAll(cachedQueriesByPrefix.getOrDefault(token.substring(0, end), Set.of()));
+                }
+            }
+        }
+        List<TopHits> matching = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            var cached = topHits.get(key);
+            if (cached != null) {
+                matching.add(cached);
+            }
+        }
+        return matching;
+    }
+
+    private static int score(IndexedCategory document, Query query) {
+        int score = 0;
+        for (String term : query.wholeTerms()) {
+            if (document.nameTokens().contains(term)) {
+                score += 10;
+            } else if (document.descriptionTokens().contains(term)) {
+                score += 3;
+            } else {
+                return 0;
+            }
+        }
+
+        String prefix = query.prefix();
+        if (matchesPrefix(document.nameTokens(), prefix)) {
+            score += document.nameTokens().contains(prefix) ? 10 : 8;
+        } else if (matchesPrefix(document.descriptionTokens(), prefix)) {
+            score += 2;
+        } else {
+            return 0;
+        }
+
+        if (document.normalizedName().equals(query.key())) {
+            score += 100;
+        } else if (document.normalizedName().startsWith(query.key())) {
+            score += 50;
+        }
+        return score;
+    }
+
+    private static boolean matchesPrefix(List<String> tokens, String prefix) {
+        for (String token : tokens) {
+            if (token.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void collectPrefix(NavigableMap<String, Set<String>> terms, String prefix, Set<String> candidates) {
+        for (Set<String> postings : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            candidates.addAll(postings);
+        }
+    }
+
+    private void collectRarest(List<String> wholeTerms, Set<String> candidates) {
+        String rarest = wholeTerms.stream()
+                .min(Comparator.comparingInt(this::postingCount))
+                .orElseThrow();
+
+        for (var terms : List.of(nameTerms, descriptionTerms)) {
+            candidates.addAll(terms.getOrDefault(rarest, Set.of()));
+        }
+    }
+
+    private int postingCount(String term) {
+        return nameTerms.getOrDefault(term, Set.of()).size() + descriptionTerms.getOrDefault(term, Set.of()).size();
+    }
+
+    private void unlink(IndexedCategory document) {
+        if (document == null) {
+            return;
+        }
+        var key = key(document.name());
+        unlink(nameTerms, document.nameTokens(), key);
+        unlink(descriptionTerms, document.descriptionTokens(), key);
+        withdraw(document);
+    }
+
+    private static void link(Map<String, Set<String>> terms, List<String> tokens, String key) {
+        for (String token : tokens) {
+            terms.computeIfAbsent(token, term -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    private static void unlink(Map<String, Set<String>> terms, List<String> tokens, String key) {
+        for (String token : tokens) {
+            terms.computeIfPresent(token, (term, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    static String normalize(String text) {
+        var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The text's words joined by single spaces, so punctuation does not stop a
+     * name from matching the query as a phrase.
+     */
+    static String phrase(String text) {
+        return String.join(" ", SEPARATORS.splitAsStream(normalize(text)).filter(token -> !token.isEmpty()).toList());
+    }
+
+    static List<String> tokens(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return SEPARATORS.splitAsStream(normalize(text))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private record IndexedCategory(String name,
+                                   String description,
+                                   String normalizedName,
+                                   List<String> nameTokens,
+                                   List<String> descriptionTokens) {
+    }
+
+    private record ScoredCategory(IndexedCategory document, int score) {
+    }
+
+    private record Query(String key, List<String> wholeTerms, String prefix) {
+    }
+
+    private record TopHits(Query query, List<ScoredCategory> hits) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.ostia.productcatalogservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Remembers tokens that already passed signature and claim validation, keyed by
+ * their SHA-256, until the token's own {@code exp}. The realm roles are resolved
+ * once at verification time and travel with the returned {@link Jwt} to the
+ * authentication converter, so a repeated bearer token costs one hash and one map
+ * lookup per request.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    public static final String TIMER_NAME = "catalog.auth.jwt.decode";
+
+    private final JwtDecoder delegate;
+    private final Converter<Jwt, Collection<GrantedAuthority>> authoritiesConverter;
+    private final Cache<String, VerifiedJwt> verifiedTokens;
+    private final MeterRegistry registry;
+    private final Clock clock;
+
+    public CachingJwtDecoder(JwtDecoder delegate,
+                             Converter<Jwt, Collection<GrantedAuthority>> authoritiesConverter,
+                             long maximumSize,
+                             MeterRegistry registry,
+                             Clock clock) {
+        this.delegate = delegate;
+        this.authoritiesConverter = authoritiesConverter;
+        this.registry = registry;
+        this.clock = clock;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry(clock))
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var sample = Timer.start(registry);
+        String cache = "miss";
+        String outcome = "success";
+
+        try {
+            String key = hash(token);
+            var verified = verifiedTokens.getIfPresent(key);
+            if (verified != null && verified.getExpiresAt().isAfter(clock.instant())) {
+                cache = "hit";
+                return verified;
+            }
+
+            var jwt = delegate.decode(token);
+            if (jwt.getExpiresAt() == null) {
+                return jwt;
+            }
+            verified = new VerifiedJwt(jwt, authorities(jwt));
+            verifiedTokens.put(key, verified);
+            return verified;
+        } catch (JwtException ex) {
+            outcome = "invalid";
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .description("Bearer token verification overhead per request")
+                    .tag("cache", cache)
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    public Converter<Jwt, Collection<GrantedAuthority>> cachedAuthoritiesConverter() {
+        return jwt -> jwt instanceof VerifiedJwt verified ? verified.authorities : authorities(jwt);
+    }
+
+    long cachedTokenCount() {
+        verifiedTokens.cleanUp();
+        return verifiedTokens.estimatedSize();
+    }
+
+    private Collection<GrantedAuthority> authorities(Jwt jwt) {
+        var authorities = authoritiesConverter.convert(jwt);
+        return authorities != null ? List.copyOf(authorities) : List.of();
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class VerifiedJwt extends Jwt {
+
+        private final transient Collection<GrantedAuthority> authorities;
+
+        private VerifiedJwt(Jwt jwt, Collection<GrantedAuthority> authorities) {
+            super(jwt.getTokenValue(), jwt.getIssuedAt(), jwt.getExpiresAt(), jwt.getHeaders(), jwt.getClaims());
+            this.authorities = authorities;
+        }
+    }
+
+    private record UntilTokenExpiry(Clock clock) implements Expiry<String, VerifiedJwt> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedJwt value, long currentTime) {
+            var remaining = Duration.between(clock.instant(), value.getExpiresAt());
+            return Math.max(0, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedJwt value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedJwt value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ostia.productcatalogservice.security;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class KeycloakRealmRoleConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+
+        Map<String, Object> realmAccess =
+                jwt.getClaim("realm_access");
+
+        if (realmAccess == null || realmAccess.isEmpty()) {
+            return List.of();
+        }
+
+        Object roles = realmAccess.get("roles");
+
+        if (!(roles instanceof List<?> roleList)) {
+            return List.of();
+        }
+
+        return roleList.stream()
+                .filter(String.class::isInstance)
+                .map(role -> "ROLE_" + role)
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.dto.CategoryChangeDTO;
+import com.ostia.productcatalogservice.dto.CategoryChangeFeed;
+import com.ostia.productcatalogservice.repository.CategoryChangeRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+
+@Service
+public class CategoryChangeService {
+
+    private final CategoryChangeRepository changeRepository;
+
+    public CategoryChangeService(CategoryChangeRepository changeRepository) {
+        this.changeRepository = changeRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public CategoryChangeFeed getChangesSince(long since, int limit) {
+        List<CategoryChangeDTO> changes = changeRepository.findPublishedAfter(since, Limit.of(limit));
+        long next = changes.isEmpty() ? since : changes.getLast().sequence();
+        return new CategoryChangeFeed(changes, next);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.common.CategoryOrder;
+import com.ostia.productcatalogservice.exception.InvalidCursorException;
+import com.ostia.productcatalogservice.model.Category;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row handed out by a keyset page. Encoded as URL-safe
+ * base64 so that clients treat it as opaque.
+ */
+record CategoryCursor(CategoryOrder order, String name, Instant createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+    private static final String NAME_PREFIX = "n";
+    private static final String CREATED_PREFIX = "c";
+
+    static CategoryCursor first(CategoryOrder order) {
+        return new CategoryCursor(order, "", Instant.EPOCH, new UUID(0L, 0L));
+    }
+
+    static CategoryCursor after(CategoryOrder order, Category last) {
+        return new CategoryCursor(order, last.getName(), last.getCreatedAt(), last.getId());
+    }
+
+    String encode() {
+        String raw = switch (order) {
+            case NAME -> NAME_PREFIX + SEPARATOR + name;
+            case CREATED -> CREATED_PREFIX + SEPARATOR + createdAt + SEPARATOR + id;
+        };
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CategoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.indexOf(SEPARATOR);
+            String prefix = split < 0 ? raw : raw.substring(0, split);
+            String position = raw.substring(split + 1);
+
+            if (split > 0 && NAME_PREFIX.equals(prefix)) {
+                return new CategoryCursor(CategoryOrder.NAME, position, Instant.EPOCH, new UUID(0L, 0L));
+            }
+            int idSplit = position.lastIndexOf(SEPARATOR);
+            if (split > 0 && idSplit > 0 && CREATED_PREFIX.equals(prefix)) {
+                return new CategoryCursor(CategoryOrder.CREATED, "",
+                        Instant.parse(position.substring(0, idSplit)),
+                        UUID.fromString(position.substring(idSplit + 1)));
+            }
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException(cursor, ex);
+        }
+        throw new InvalidCursorException(cursor, null);
+    }
+}
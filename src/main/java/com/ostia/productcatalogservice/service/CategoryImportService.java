@@ -0,0 +1,135 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.dto.BulkImportItemResult;
+import com.ostia.productcatalogservice.dto.BulkImportItemResult.Status;
+import com.ostia.productcatalogservice.dto.BulkImportResult;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.event.CategoryChangedEvent;
+import com.ostia.productcatalogservice.mapper.DomainMapper;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORY_MISSES;
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORY_PAGES;
+
+@Service
+public class CategoryImportService {
+
+    private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public CategoryImportService(CategoryRepository categoryRepository,
+                                 EntityManager entityManager,
+                                 Validator validator,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize) {
+        this.categoryRepository = categoryRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CATEGORY_MISSES, allEntries = true),
+            @CacheEvict(cacheNames = CATEGORY_PAGES, allEntries = true)
+    })
+    @Transactional
+    public BulkImportResult importCategories(List<CategoryDTO> categories) {
+        return importCategories(categories.iterator());
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CATEGORY_MISSES, allEntries = true),
+            @CacheEvict(cacheNames = CATEGORY_PAGES, allEntries = true)
+    })
+    @Transactional
+    public BulkImportResult importCategories(Iterator<CategoryDTO> categories) {
+        List<BulkImportItemResult> results = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        List<CategoryDTO> chunk = new ArrayList<>(batchSize);
+        int created = 0;
+
+        while (categories.hasNext()) {
+            chunk.add(categories.next());
+            if (chunk.size() == batchSize || !categories.hasNext()) {
+                created += importChunk(chunk, seen, results);
+                chunk.clear();
+            }
+        }
+
+        return new BulkImportResult(created, results.size() - created, results);
+    }
+
+    private int importChunk(List<CategoryDTO> chunk, Set<String> seen, List<BulkImportItemResult> results) {
+        int offset = results.size();
+        var outcomes = new BulkImportItemResult[chunk.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            var dto = chunk.get(i);
+            if (dto == null) {
+                outcomes[i] = rejected(offset + i, null, Status.INVALID, "Entry must not be null");
+                continue;
+            }
+
+            Set<ConstraintViolation<CategoryDTO>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                outcomes[i] = rejected(offset + i, dto.name(), Status.INVALID, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            } else if (!seen.add(dto.name().toLowerCase(Locale.ROOT))) {
+                outcomes[i] = rejected(offset + i, dto.name(), Status.DUPLICATE_IN_REQUEST, "Name appears earlier in the request");
+            } else {
+                candidates.put(dto.name().toLowerCase(Locale.ROOT), i);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            for (String existing : categoryRepository.findExistingNamesIgnoreCase(candidates.keySet())) {
+                Integer i = candidates.remove(existing);
+                if (i != null) {
+                    outcomes[i] = rejected(offset + i, chunk.get(i).name(), Status.ALREADY_EXISTS, "Category already exists");
+                }
+            }
+        }
+
+        for (int i : candidates.values()) {
+            var category = DomainMapper.DTOToEntity(chunk.get(i));
+            entityManager.persist(category);
+            outcomes[i] = new BulkImportItemResult(offset + i, category.getName(), Status.CREATED, category.getId(), null);
+            eventPublisher.publishEvent(CategoryChangedEvent.created(category.getName(), category.getDescription()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        results.addAll(Arrays.asList(outcomes));
+        return candidates.size();
+    }
+
+    private static BulkImportItemResult rejected(int index, String name, Status status, String message) {
+        return new BulkImportItemResult(index, name, status, null, message);
+    }
+}
@@ -0,0 +1,82 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.datasource.ReplicaRoutingDataSource;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.dto.CategoryLookupResult;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORIES;
+import static com.ostia.productcatalogservice.common.CacheNames.categoryKey;
+
+/**
+ * Resolves many names at once. Names already in the {@code categories} cache are
+ * served from it, the rest are loaded with a single IN query and written back under
+ * the same keys {@code CategoryService.getCategory} uses, from the primary because the
+ * result is cached. Only the miss load goes through a transactional service method, so
+ * a lookup answered entirely from the cache neither opens a transaction nor takes a
+ * connection bulkhead permit.
+ */
+@Service
+public class CategoryLookupService {
+
+    private final CategoryService categoryService;
+    private final CacheManager cacheManager;
+
+    public CategoryLookupService(CategoryService categoryService, CacheManager cacheManager) {
+        this.categoryService = categoryService;
+        this.cacheManager = cacheManager;
+    }
+
+    public CategoryLookupResult getCategories(Collection<String> names) {
+        Map<String, String> requested = new LinkedHashMap<>();
+        for (String name : names) {
+            requested.putIfAbsent(categoryKey(name), name);
+        }
+
+        Cache cache = cacheManager.getCache(CATEGORIES);
+        Map<String, VersionedCategoryDTO> resolved = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String key : requested.keySet()) {
+            var cached = cache != null ? cache.get(key, VersionedCategoryDTO.class) : null;
+            if (cached != null) {
+                resolved.put(key, cached);
+            } else {
+                misses.add(key);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<VersionedCategoryDTO> loaded;
+            try (var _ = ReplicaRoutingDataSource.readFromPrimary()) {
+                loaded = categoryService.getCategoriesByKeys(misses);
+            }
+            for (var category : loaded) {
+                String key = categoryKey(category.name());
+                resolved.put(key, category);
+                if (cache != null) {
+                    cache.put(key, category);
+                }
+            }
+        }
+
+        List<CategoryDTO> found = new ArrayList<>(resolved.size());
+        List<String> missing = new ArrayList<>();
+        requested.forEach((key, name) -> {
+            var category = resolved.get(key);
+            if (category != null) {
+                found.add(category.toCategoryDTO());
+            } else {
+                missing.add(name);
+            }
+        });
+        return new CategoryLookupResult(found, missing);
+    }
+}
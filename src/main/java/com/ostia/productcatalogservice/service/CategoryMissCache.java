@@ -0,0 +1,52 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.exception.EntityNotFoundException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORY_MISSES;
+import static com.ostia.productcatalogservice.common.CacheNames.categoryKey;
+
+/**
+ * Negative cache for {@link CategoryService#getCategory}. A name that was just not found
+ * is answered from {@code category-misses} without reaching the positive cache, the
+ * bulkhead or the database, until the short TTL set in {@code CacheConfig} runs out or a
+ * create or import evicts it. The cached exception is stackless, so rethrowing it is safe.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 4)
+public class CategoryMissCache {
+
+    private final CacheManager cacheManager;
+
+    public CategoryMissCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Around("execution(* com.ostia.productcatalogservice.service.CategoryService.getCategory(String)) && args(name)")
+    public Object getCategory(ProceedingJoinPoint joinPoint, String name) throws Throwable {
+        Cache misses = cacheManager.getCache(CATEGORY_MISSES);
+        if (misses == null) {
+            return joinPoint.proceed();
+        }
+
+        String key = categoryKey(name);
+        var miss = misses.get(key, EntityNotFoundException.class);
+        if (miss != null) {
+            throw miss;
+        }
+        try {
+            return joinPoint.proceed();
+        } catch (EntityNotFoundException ex) {
+            misses.put(key, ex);
+            throw ex;
+        }
+    }
+}
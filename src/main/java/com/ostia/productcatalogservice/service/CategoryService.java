@@ -1,68 +1,190 @@
 package com.ostia.productcatalogservice.service;
 
+import com.ostia.productcatalogservice.common.CategoryOrder;
+import com.ostia.productcatalogservice.concurrent.Coalesced;
+import com.ostia.productcatalogservice.concurrent.RetryOnConflict;
+import com.ostia.productcatalogservice.dto.CatalogVersion;
+import com.ostia.productcatalogservice.dto.CategoryCursorPage;
 import com.ostia.productcatalogservice.dto.CategoryDTO;
 import com.ostia.productcatalogservice.dto.UpdateCategoryDTO;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.event.CategoryChangedEvent;
+import com.ostia.productcatalogservice.exception.ConcurrentUpdateException;
 import com.ostia.productcatalogservice.exception.EntityAlreadyExistsException;
 import com.ostia.productcatalogservice.exception.EntityNotFoundException;
+import com.ostia.productcatalogservice.exception.PreconditionFailedException;
 import com.ostia.productcatalogservice.mapper.DomainMapper;
+import com.ostia.productcatalogservice.model.Category;
 import com.ostia.productcatalogservice.repository.CategoryRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORIES;
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORY_MISSES;
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORY_PAGES;
 
 @Service
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CATEGORIES, key = "T(com.ostia.productcatalogservice.common.CacheNames).categoryKey(#categoryDTO.name())"),
+            @CacheEvict(cacheNames = CATEGORY_MISSES, key = "T(com.ostia.productcatalogservice.common.CacheNames).categoryKey(#categoryDTO.name())"),
+            @CacheEvict(cacheNames = CATEGORY_PAGES, allEntries = true)
+    })
     @Transactional
     public UUID addCategory(CategoryDTO categoryDTO) {
         var category = DomainMapper.DTOToEntity(categoryDTO);
 
-        if (!categoryRepository.existsByName(category.getName())) {
+        if (!categoryRepository.existsByNameIgnoreCase(category.getName())) {
             var savedCategory = categoryRepository.save(category);
+            eventPublisher.publishEvent(CategoryChangedEvent.created(savedCategory.getName(), savedCategory.getDescription()));
             return savedCategory.getId();
         }
 
         throw new EntityAlreadyExistsException("Category", "name", category.getName());
     }
 
+    @Cacheable(cacheNames = CATEGORIES, key = "T(com.ostia.productcatalogservice.common.CacheNames).categoryKey(#catName)")
+    @Coalesced
     @Transactional(readOnly = true)
-    public CategoryDTO getCategory(String catName) {
+    public VersionedCategoryDTO getCategory(String catName) {
+        return categoryRepository.findVersionedByNameIgnoreCase(catName)
+                .orElseThrow(() -> new EntityNotFoundException("Category", "name", catName));
+    }
 
-        if (categoryRepository.existsByName(catName)) {
-            return DomainMapper.EntityToDTO(categoryRepository.findByName(catName));
-        }
-        throw new EntityNotFoundException("Category", "name", catName);
+    /**
+     * Loads categories by {@code categoryKey}. Not cached: {@code CategoryLookupService}
+     * caches each result under its own key.
+     */
+    @Transactional(readOnly = true)
+    public List<VersionedCategoryDTO> getCategoriesByKeys(Collection<String> keys) {
+        return categoryRepository.findVersionedByLowerNameIn(keys);
     }
 
+    @Cacheable(cacheNames = CATEGORY_PAGES, key = "'catalog-version'")
+    @Coalesced
+    @Transactional(readOnly = true)
+    public CatalogVersion getCatalogVersion() {
+        var catalogVersion = categoryRepository.findCatalogVersion();
+        return catalogVersion.lastModified() != null
+                ? catalogVersion
+                : new CatalogVersion(catalogVersion.count(), Instant.EPOCH);
+    }
+
+    /**
+     * Reads the versioned projection first so the change feed carries the stored name,
+     * not the caller's casing, and so a stale If-Match fails before any write.
+     */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CATEGORIES, key = "T(com.ostia.productcatalogservice.common.CacheNames).categoryKey(#catName)"),
+            @CacheEvict(cacheNames = CATEGORY_PAGES, allEntries = true)
+    })
     @Transactional
-    public void deleteCategory(String catName) {
+    public void deleteCategory(String catName, @Nullable Integer expectedVersion) {
+        var current = categoryRepository.findVersionedByNameIgnoreCase(catName)
+                .orElseThrow(() -> new EntityNotFoundException("Category", "name", catName));
+
+        if (expectedVersion != null && current.version() != expectedVersion) {
+            throw new PreconditionFailedException("Category", "name", catName);
+        }
 
-        if (!categoryRepository.existsByName(catName)) {
+        int deleted = expectedVersion == null
+                ? categoryRepository.bulkDeleteByNameIgnoreCase(catName)
+                : categoryRepository.bulkDeleteByNameIgnoreCaseAndVersion(catName, expectedVersion);
+        if (deleted == 0) {
+            if (expectedVersion != null && categoryRepository.existsByNameIgnoreCase(catName)) {
+                throw new PreconditionFailedException("Category", "name", catName);
+            }
             throw new EntityNotFoundException("Category", "name", catName);
         }
-        categoryRepository.deleteByName(catName);
+        eventPublisher.publishEvent(CategoryChangedEvent.deleted(current.name()));
     }
 
+    /**
+     * Writes with a single {@code UPDATE ... WHERE version = ?} against the version just
+     * read, without loading the entity. With an expected version a mismatch is a failed
+     * precondition; without one the caller only wants the new description applied, so a
+     * lost race is retried from the read.
+     */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CATEGORIES, key = "T(com.ostia.productcatalogservice.common.CacheNames).categoryKey(#name)"),
+            @CacheEvict(cacheNames = CATEGORY_PAGES, allEntries = true)
+    })
+    @RetryOnConflict
     @Transactional
-    public void updateCategory(String name, UpdateCategoryDTO dto) {
-        var category = categoryRepository.findByNameIgnoreCase(name)
+    public void updateCategory(String name, UpdateCategoryDTO dto, @Nullable Integer expectedVersion) {
+        var current = categoryRepository.findVersionedByNameIgnoreCase(name)
                 .orElseThrow(() -> new EntityNotFoundException("Category", "name", name));
 
-        category.setDescription(dto.description());
-        categoryRepository.save(category);
+        if (expectedVersion != null && current.version() != expectedVersion) {
+            throw new PreconditionFailedException("Category", "name", name);
+        }
+
+        if (categoryRepository.updateDescription(current.id(), dto.description(), current.version(), Instant.now()) == 0) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Category", "name", name);
+            }
+            throw new ConcurrentUpdateException("Category", "name", name);
+        }
+        eventPublisher.publishEvent(CategoryChangedEvent.updated(current.name(), dto.description()));
     }
 
+    @Cacheable(cacheNames = CATEGORY_PAGES, key = "#pageable")
+    @Coalesced
     @Transactional(readOnly = true)
     public Page<CategoryDTO> getAllCategories(Pageable pageable) {
         return categoryRepository.findAll(pageable)
                 .map(DomainMapper::EntityToDTO);
     }
+
+    @Transactional(readOnly = true)
+    public CategoryCursorPage getCategoriesAfter(String cursor, int size, CategoryOrder order) {
+        var position = cursor.isBlank() ? CategoryCursor.first(order) : CategoryCursor.decode(cursor);
+        var limit = PageRequest.ofSize(size);
+
+        Slice<Category> slice = switch (position.order()) {
+            case NAME -> categoryRepository.findSliceAfterName(position.name(), limit);
+            case CREATED -> categoryRepository.findSliceAfterCreated(position.createdAt(), position.id(), limit);
+        };
+
+        String nextCursor = slice.hasNext()
+                ? CategoryCursor.after(position.order(), slice.getContent().getLast()).encode()
+                : null;
+        return new CategoryCursorPage(slice.map(DomainMapper::EntityToDTO).getContent(), nextCursor);
+    }
+
+    /**
+     * Pushes every category to the sink from a forward-only cursor. Rows are
+     * projected straight into DTOs, so nothing accumulates in the persistence
+     * context and memory stays flat regardless of catalog size.
+     */
+    @Transactional(readOnly = true)
+    public void exportCategories(Consumer<CategoryDTO> sink) {
+        try (Stream<CategoryDTO> categories = categoryRepository.streamAll()) {
+            categories.forEach(sink);
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.concurrent.RetryOnConflict;
+import com.ostia.productcatalogservice.dto.CategoryNodeDTO;
+import com.ostia.productcatalogservice.event.CategoryChangedEvent;
+import com.ostia.productcatalogservice.exception.EntityNotFoundException;
+import com.ostia.productcatalogservice.exception.InvalidCategoryMoveException;
+import com.ostia.productcatalogservice.model.Category;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORIES;
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORY_PAGES;
+
+/**
+ * Tree operations over the materialized {@code path} column. Each category stores
+ * its ancestors' ids as {@code /root/.../parent/}, so a subtree is one indexed
+ * prefix scan, the breadcrumb is a primary-key lookup of the ids already in the
+ * path, and a move rewrites the whole subtree with a single UPDATE.
+ * <p>
+ * A move locks the moving category, the new parent and the parent's ancestors
+ * before checking for a cycle. Any concurrent move that could close a cycle with
+ * it needs one of those rows, so the two run one after the other and the second
+ * sees the first one's paths. Lock waits that end in a deadlock are retried.
+ */
+@Service
+public class CategoryTreeService {
+
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CategoryTreeService(CategoryRepository categoryRepository, ApplicationEventPublisher eventPublisher) {
+        this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CategoryNodeDTO> getDescendants(String name, int maxDepth, int limit) {
+        var category = find(name);
+        return categoryRepository.findSubtree(
+                category.getSubtreePath() + "%", category.getDepth() + maxDepth, PageRequest.ofSize(limit));
+    }
+
+    @Transactional(readOnly = true)
+    public List<CategoryNodeDTO> getAncestors(String name) {
+        var category = find(name);
+        List<UUID> ancestorIds = ancestorIds(category);
+
+        return ancestorIds.isEmpty() ? List.of() : categoryRepository.findNodesById(ancestorIds);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CATEGORIES, allEntries = true),
+            @CacheEvict(cacheNames = CATEGORY_PAGES, allEntries = true)
+    })
+    @RetryOnConflict
+    @Transactional
+    public void moveCategory(String name, @Nullable String parentName) {
+        var category = lock(name);
+        Category parent = parentName != null ? lock(parentName) : null;
+        if (parent != null) {
+            List<UUID> ancestorIds = ancestorIds(parent);
+            if (!ancestorIds.isEmpty()) {
+                categoryRepository.lockAllById(ancestorIds);
+            }
+        }
+
+        String oldSubtreePath = category.getSubtreePath();
+        if (parent != null && parent.getSubtreePath().startsWith(oldSubtreePath)) {
+            throw new InvalidCategoryMoveException(category.getName(), parent.getName());
+        }
+
+        int oldDepth = category.getDepth();
+        category.placeUnder(parent);
+        categoryRepository.saveAndFlush(category);
+
+        categoryRepository.moveSubtree(
+                oldSubtreePath + "%",
+                oldSubtreePath.length(),
+                category.getSubtreePath(),
+                category.getDepth() - oldDepth,
+                Instant.now()
+        );
+        eventPublisher.publishEvent(CategoryChangedEvent.updated(category.getName(), category.getDescription()));
+    }
+
+    private Category find(String name) {
+        return categoryRepository.findByNameIgnoreCase(name)
+                .orElseThrow(() -> new EntityNotFoundException("Category", "name", name));
+    }
+
+    private Category lock(String name) {
+        return categoryRepository.lockByNameIgnoreCase(name)
+                .orElseThrow(() -> new EntityNotFoundException("Category", "name", name));
+    }
+
+    private static List<UUID> ancestorIds(Category category) {
+        return Arrays.stream(category.getPath().split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .map(UUID::fromString)
+                .toList();
+    }
+}
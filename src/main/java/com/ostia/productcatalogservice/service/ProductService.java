@@ -0,0 +1,98 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.common.CacheNames;
+import com.ostia.productcatalogservice.dto.ProductDTO;
+import com.ostia.productcatalogservice.dto.UpdateProductDTO;
+import com.ostia.productcatalogservice.exception.EntityAlreadyExistsException;
+import com.ostia.productcatalogservice.exception.EntityNotFoundException;
+import com.ostia.productcatalogservice.mapper.ProductMapper;
+import com.ostia.productcatalogservice.model.Category;
+import com.ostia.productcatalogservice.model.Product;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import com.ostia.productcatalogservice.repository.ProductRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Categories are loaded with {@code @BatchSize}, so mapping a page of products
+ * costs one extra query per hundred products rather than one per product.
+ */
+@Service
+public class ProductService {
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+
+    public ProductService(ProductRepository productRepository, CategoryRepository categoryRepository) {
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    @Transactional
+    public UUID addProduct(ProductDTO productDTO) {
+        if (productRepository.existsByNameIgnoreCase(productDTO.name())) {
+            throw new EntityAlreadyExistsException("Product", "name", productDTO.name());
+        }
+
+        var product = new Product();
+        product.setName(productDTO.name());
+        product.setDescription(productDTO.description());
+        product.setPrice(productDTO.price());
+        product.setCategories(resolveCategories(productDTO.categories()));
+
+        return productRepository.save(product).getId();
+    }
+
+    @Transactional(readOnly = true)
+    public ProductDTO getProduct(String name) {
+        return productRepository.findWithCategoriesByNameIgnoreCase(name)
+                .map(ProductMapper::EntityToDTO)
+                .orElseThrow(() -> new EntityNotFoundException("Product", "name", name));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProductDTO> getAllProducts(Pageable pageable) {
+        return productRepository.findAll(pageable)
+                .map(ProductMapper::EntityToDTO);
+    }
+
+    @Transactional
+    public void updateProduct(String name, UpdateProductDTO dto) {
+        var product = productRepository.findWithCategoriesByNameIgnoreCase(name)
+                .orElseThrow(() -> new EntityNotFoundException("Product", "name", name));
+
+        product.setDescription(dto.description());
+        product.setPrice(dto.price());
+        product.setCategories(resolveCategories(dto.categories()));
+        productRepository.save(product);
+    }
+
+    @Transactional
+    public void deleteProduct(String name) {
+        if (productRepository.bulkDeleteByNameIgnoreCase(name) == 0) {
+            throw new EntityNotFoundException("Product", "name", name);
+        }
+    }
+
+    private Set<Category> resolveCategories(Set<String> names) {
+        if (names.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<String> lowerNames = names.stream().map(CacheNames::categoryKey).collect(Collectors.toSet());
+        var categories = new HashSet<>(categoryRepository.findAllByLowerNameIn(lowerNames));
+
+        if (categories.size() < lowerNames.size()) {
+            Set<String> found = categories.stream().map(category -> CacheNames.categoryKey(category.getName())).collect(Collectors.toSet());
+            String missing = names.stream().filter(name -> !found.contains(CacheNames.categoryKey(name))).findFirst().orElseThrow();
+            throw new EntityNotFoundException("Category", "name", missing);
+        }
+        return categories;
+    }
+}
@@ -3,21 +3,115 @@ package com.ostia.productcatalogservice.util;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Resolves each code once per locale and keeps it as a precompiled template, so the
+ * error path does not walk the resource bundles or build a {@code MessageFormat} per
+ * request. Patterns that use quoting or typed arguments, and arguments that are not
+ * text, still go through the {@link MessageSource}.
+ */
 @Component
 public class CustomMessageResolver {
 
+    private static final int MAX_CACHED_LOCALES = 32;
+
     private final MessageSource messageSource;
+    private final Map<Locale, Map<String, MessageTemplate>> templates = new ConcurrentHashMap<>();
 
     public CustomMessageResolver(MessageSource messageSource) {
         this.messageSource = messageSource;
     }
 
     public String get(String code) {
-        return messageSource.getMessage(code, null, LocaleContextHolder.getLocale());
+        return template(code, LocaleContextHolder.getLocale()).pattern();
     }
 
     public String get(String code, Object... args) {
-        return messageSource.getMessage(code, args, LocaleContextHolder.getLocale());
+        var locale = LocaleContextHolder.getLocale();
+        String formatted = template(code, locale).format(args);
+        return formatted != null ? formatted : messageSource.getMessage(code, args, locale);
+    }
+
+    private MessageTemplate template(String code, Locale locale) {
+        var byCode = templates.get(locale);
+        if (byCode == null) {
+            if (templates.size() >= MAX_CACHED_LOCALES) {
+                return MessageTemplate.compile(messageSource.getMessage(code, null, locale));
+            }
+            byCode = templates.computeIfAbsent(locale, ignored -> new ConcurrentHashMap<>());
+        }
+        return byCode.computeIfAbsent(code, ignored -> MessageTemplate.compile(messageSource.getMessage(code, null, locale)));
+    }
+
+    /**
+     * A pattern split around its {@code {n}} placeholders. {@code literals} is null when
+     * the pattern needs full {@code MessageFormat} semantics.
+     */
+    record MessageTemplate(String pattern, String[] literals, int[] argumentIndexes) {
+
+        static MessageTemplate compile(String pattern) {
+            if (pattern.indexOf('\'') >= 0) {
+                return new MessageTemplate(pattern, null, null);
+            }
+
+            List<String> literals = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            int literalStart = 0;
+            int open;
+            while ((open = pattern.indexOf('{', literalStart)) >= 0) {
+                int close = pattern.indexOf('}', open);
+                if (close < 0 || close == open + 1 || !isDigits(pattern, open + 1, close)) {
+                    return new MessageTemplate(pattern, null, null);
+                }
+                literals.add(pattern.substring(literalStart, open));
+                indexes.add(Integer.parseInt(pattern, open + 1, close, 10));
+                literalStart = close + 1;
+            }
+            literals.add(pattern.substring(literalStart));
+
+            return new MessageTemplate(pattern,
+                    literals.toArray(String[]::new),
+                    indexes.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        /**
+         * Returns null when the arguments need {@code MessageFormat} rendering.
+         */
+        String format(Object... args) {
+            if (literals == null || args == null) {
+                return null;
+            }
+            for (Object arg : args) {
+                if (!(arg instanceof CharSequence)) {
+                    return null;
+                }
+            }
+
+            var message = new StringBuilder(pattern.length() + 32);
+            for (int i = 0; i < argumentIndexes.length; i++) {
+                message.append(literals[i]);
+                int index = argumentIndexes[i];
+                if (index < args.length) {
+                    message.append((CharSequence) args[index]);
+                } else {
+                    message.append('{').append(index).append('}');
+                }
+            }
+            return message.append(literals[argumentIndexes.length]).toString();
+        }
+
+        private static boolean isDigits(String value, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (!Character.isDigit(value.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
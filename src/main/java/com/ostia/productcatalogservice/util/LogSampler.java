@@ -0,0 +1,50 @@
+package com.ostia.productcatalogservice.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets at most {@code permitsPerSecond} log lines through per one-second window and
+ * counts the rest, so a flood of identical client errors costs a counter increment
+ * instead of a formatted log line. Lock-free; a window boundary may admit a few
+ * extra lines under contention.
+ */
+public class LogSampler {
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final int permitsPerSecond;
+    private final LongSupplier nanoClock;
+    private final AtomicLong windowStart;
+    private final AtomicLong used = new AtomicLong();
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogSampler(int permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    LogSampler(int permitsPerSecond, LongSupplier nanoClock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Returns -1 if this line should be dropped, otherwise the number of lines
+     * dropped since the last one that was let through.
+     */
+    public long tryAcquire() {
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+
+        if (used.incrementAndGet() > permitsPerSecond) {
+            suppressed.increment();
+            return -1;
+        }
+        return suppressed.sumThenReset();
+    }
+}
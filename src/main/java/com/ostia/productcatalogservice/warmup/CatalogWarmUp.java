@@ -0,0 +1,186 @@
+package com.ostia.productcatalogservice.warmup;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.ostia.productcatalogservice.datasource.ReplicaRoutingDataSource;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import com.ostia.productcatalogservice.representation.CategoryRepresentationCache;
+import com.ostia.productcatalogservice.search.CategorySearchIndex;
+import com.ostia.productcatalogservice.service.CategoryService;
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORIES;
+import static com.ostia.productcatalogservice.common.CacheNames.categoryKey;
+
+/**
+ * Fills the category caches before the instance takes traffic. Readiness stays at
+ * {@code REFUSING_TRAFFIC} and the Eureka status at {@code OUT_OF_SERVICE} while
+ * up to {@code catalog.warm-up.max-categories} categories are loaded, page by page
+ * on {@code catalog.warm-up.parallelism} threads, into the {@code categories} cache
+ * and the representation cache, reading from the primary when a replica is configured,
+ * and the search index is built so {@code ?q=} is not answered from an empty index.
+ * Encoding every body also gets the serializers compiled. A failed warm-up is logged
+ * and the instance goes live with cold caches.
+ */
+@Component
+public class CatalogWarmUp implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogWarmUp.class);
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final CategoryRepresentationCache representationCache;
+    private final CategorySearchIndex searchIndex;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ApplicationInfoManager> eurekaInstance;
+    private final CustomMessageResolver messages;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate readOnly;
+    private final boolean enabled;
+    private final int maxCategories;
+    private final int pageSize;
+    private final int parallelism;
+
+    public CatalogWarmUp(CategoryRepository categoryRepository,
+                         CategoryService categoryService,
+                         CategoryRepresentationCache representationCache,
+                         CategorySearchIndex searchIndex,
+                         CacheManager cacheManager,
+                         ApplicationEventPublisher eventPublisher,
+                         ObjectProvider<ApplicationInfoManager> eurekaInstance,
+                         CustomMessageResolver messages,
+                         MeterRegistry meterRegistry,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${catalog.warm-up.enabled:true}") boolean enabled,
+                         @Value("${catalog.warm-up.max-categories:10000}") int maxCategories,
+                         @Value("${catalog.warm-up.page-size:1000}") int pageSize,
+                         @Value("${catalog.warm-up.parallelism:4}") int parallelism) {
+        this.categoryRepository = categoryRepository;
+        this.categoryService = categoryService;
+        this.representationCache = representationCache;
+        this.searchIndex = searchIndex;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.eurekaInstance = eurekaInstance;
+        this.messages = messages;
+        this.meterRegistry = meterRegistry;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxCategories = maxCategories;
+        this.pageSize = Math.min(pageSize, maxCategories);
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            markAvailable();
+            return;
+        }
+
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        eurekaInstance.ifAvailable(instance -> instance.setInstanceStatus(InstanceStatus.OUT_OF_SERVICE));
+        log.info(messages.get("log.warmup.started"), maxCategories);
+
+        long started = System.nanoTime();
+        String outcome = "success";
+        try {
+            int cached = preloadCategories();
+            categoryService.getCatalogVersion();
+            categoryService.getAllCategories(PageRequest.of(0, 10));
+            searchIndex.rebuild();
+            log.info(messages.get("log.warmup.completed"), cached, elapsedMillis(started));
+        } catch (RuntimeException ex) {
+            outcome = "error";
+            log.warn(messages.get("log.warmup.failed"), elapsedMillis(started), ex);
+        } finally {
+            Timer.builder("catalog.warmup.duration")
+                    .description("Time spent filling caches before accepting traffic")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            markAvailable();
+        }
+    }
+
+    private int preloadCategories() {
+        Cache cache = cacheManager.getCache(CATEGORIES);
+        int pages = pageSize > 0 ? Math.ceilDiv(maxCategories, pageSize) : 0;
+        var nextPage = new AtomicInteger();
+        var exhausted = new AtomicBoolean();
+        var cached = new AtomicInteger();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                workers.add(executor.submit(() -> {
+                    try (var _ = ReplicaRoutingDataSource.readFromPrimary()) {
+                        int page;
+                        while (!exhausted.get() && (page = nextPage.getAndIncrement()) < pages) {
+                            var pageRequest = PageRequest.of(page, pageSize, Sort.by("name"));
+                            List<VersionedCategoryDTO> categories =
+                                    readOnly.execute(status -> categoryRepository.findVersionedBy(pageRequest));
+                            for (var category : categories) {
+                                if (cache != null) {
+                                    cache.put(categoryKey(category.name()), category);
+                                }
+                                representationCache.preload(category);
+                            }
+                            cached.addAndGet(categories.size());
+                            if (categories.size() < pageSize) {
+                                exhausted.set(true);
+                            }
+                        }
+                    }
+                }));
+            }
+            for (var worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(ex.getCause());
+        }
+        return cached.get();
+    }
+
+    private void markAvailable() {
+        eurekaInstance.ifAvailable(instance -> instance.setInstanceStatus(InstanceStatus.UP));
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    private static long elapsedMillis(long started) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+}
@@ -4,5 +4,44 @@ CREATE TABLE CATEGORY (
                           created_at TIMESTAMP NOT NULL,
                           updated_at TIMESTAMP NOT NULL,
                           name VARCHAR(255) NOT NULL UNIQUE,
-                          description VARCHAR(255) NOT NULL
-);
\ No newline at end of file
+                          name_key VARCHAR(255) GENERATED ALWAYS AS (LOWER(name)),
+                          description VARCHAR(255) NOT NULL,
+                          parent_id UUID REFERENCES CATEGORY (id),
+                          path VARCHAR(2048) DEFAULT '/' NOT NULL,
+                          depth INT DEFAULT 0 NOT NULL
+);
+CREATE UNIQUE INDEX idx_category_name_key ON CATEGORY (name_key);
+CREATE INDEX idx_category_created_at_id ON CATEGORY (created_at, id);
+CREATE INDEX idx_category_updated_at ON CATEGORY (updated_at);
+CREATE INDEX idx_category_path ON CATEGORY (path);
+CREATE INDEX idx_category_parent_id ON CATEGORY (parent_id);
+
+CREATE TABLE PRODUCT (
+                         id UUID PRIMARY KEY,
+                         version INT NOT NULL,
+                         created_at TIMESTAMP NOT NULL,
+                         updated_at TIMESTAMP NOT NULL,
+                         name VARCHAR(255) NOT NULL UNIQUE,
+                         description VARCHAR(255) NOT NULL,
+                         price DECIMAL(12, 2) NOT NULL
+);
+
+CREATE TABLE PRODUCT_CATEGORY (
+                                  product_id UUID NOT NULL REFERENCES PRODUCT (id) ON DELETE CASCADE,
+                                  category_id UUID NOT NULL REFERENCES CATEGORY (id),
+                                  PRIMARY KEY (product_id, category_id)
+);
+CREATE INDEX idx_product_category_category_id ON PRODUCT_CATEGORY (category_id);
+
+CREATE SEQUENCE CATEGORY_CHANGE_ID_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE CATEGORY_CHANGE (
+                                 id BIGINT PRIMARY KEY,
+                                 type VARCHAR(16) NOT NULL,
+                                 category_name VARCHAR(255) NOT NULL,
+                                 description VARCHAR(255),
+                                 occurred_at TIMESTAMP NOT NULL,
+                                 sequence BIGINT UNIQUE,
+                                 published_at TIMESTAMP
+);
+CREATE INDEX idx_category_change_pending ON CATEGORY_CHANGE (sequence, id);
@@ -0,0 +1,93 @@
+package com.ostia.productcatalogservice.assembler;
+
+import com.ostia.productcatalogservice.controller.CategoryController;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.dto.UpdateCategoryDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.ostia.productcatalogservice.common.LinkRelation.DELETE;
+import static com.ostia.productcatalogservice.common.LinkRelation.UPDATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class CategoryModelAssemblerTest {
+
+    private final CategoryModelAssembler assembler = new CategoryModelAssembler();
+
+    @BeforeEach
+    void bindRequest() {
+        var request = new MockHttpServletRequest("GET", "/api/v1/categories");
+        request.setScheme("https");
+        request.setServerName("catalog.ostia.example");
+        request.setServerPort(8444);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Books", "Video Games", "Cafés", "100% Cotton", "C#"})
+    void shouldProduceTheSameLinksAsMethodOnLinkBuilding(String name) {
+        // Given
+        var category = new CategoryDTO(name, "Some description");
+
+        // When
+        var model = assembler.toModel(category);
+
+        // Then
+        assertThat(hrefsByRel(model)).isEqualTo(hrefsByRel(legacyModel(category)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Cafés & Bars", "What?", "a+b=c", "a b=c", "x/y"})
+    void shouldKeepReservedCharactersInsideTheName(String name) {
+        // Given
+        var category = new CategoryDTO(name, "Some description");
+
+        // When
+        var model = assembler.toModel(category);
+
+        // Then
+        String itemHref = model.getRequiredLink(IanaLinkRelations.SELF).getHref();
+        String lastSegment = itemHref.substring(itemHref.lastIndexOf('/') + 1);
+        assertThat(UriUtils.decode(lastSegment, StandardCharsets.UTF_8)).isEqualTo(name);
+        assertThat(model.getRequiredLink(UPDATE.rel()).getHref()).isEqualTo(itemHref);
+
+        var query = UriComponentsBuilder.fromUriString(model.getRequiredLink(DELETE.rel()).getHref()).build().getQueryParams();
+        assertThat(query.keySet()).containsExactly("name");
+        assertThat(query.get("name")).hasSize(1);
+        assertThat(URLDecoder.decode(query.getFirst("name"), StandardCharsets.UTF_8)).isEqualTo(name);
+    }
+
+    private static Map<String, String> hrefsByRel(EntityModel<CategoryDTO> model) {
+        return model.getLinks().stream().collect(Collectors.toMap(link -> link.getRel().value(), Link::getHref));
+    }
+
+    private static EntityModel<CategoryDTO> legacyModel(CategoryDTO categoryDTO) {
+        return EntityModel.of(
+                categoryDTO,
+                linkTo(methodOn(CategoryController.class).getCategory(categoryDTO.name(), null, null)).withSelfRel(),
+                linkTo(methodOn(CategoryController.class).deleteCategory(categoryDTO.name(), null)).withRel(DELETE.rel()),
+                linkTo(methodOn(CategoryController.class).updateCategory(categoryDTO.name(), new UpdateCategoryDTO(categoryDTO.description()), null)).withRel(UPDATE.rel())
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.ostia.productcatalogservice.concurrent;
+
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import com.ostia.productcatalogservice.service.CategoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CoalescingAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private CategoryService categoryService;
+
+    @BeforeEach
+    void setUp() {
+        var factory = new AspectJProxyFactory(new CategoryService(categoryRepository, mock(ApplicationEventPublisher.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CoalescingAspect(registry));
+        categoryService = factory.getProxy();
+    }
+
+    @Test
+    void shouldCoalesceLookupsThatDifferOnlyInCase() throws Exception {
+        // Given
+        var loads = new AtomicInteger();
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(categoryRepository.findVersionedByNameIgnoreCase(anyString())).thenAnswer(invocation -> {
+            loads.incrementAndGet();
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(new VersionedCategoryDTO(UUID.randomUUID(), "Books", "Printed", 0, Instant.EPOCH));
+        });
+        var leader = CompletableFuture.supplyAsync(() -> categoryService.getCategory("Books"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        var follower = Thread.ofPlatform().start(() -> categoryService.getCategory("BOOKS"));
+        while (follower.getState() != Thread.State.WAITING && follower.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        follower.join(5_000);
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS).name()).isEqualTo("Books");
+        assertThat(loads).hasValue(1);
+        assertThat(registry.get(CoalescingAspect.COUNTER_NAME).tag("role", "coalesced").counter().count())
+                .isEqualTo(1);
+    }
+}
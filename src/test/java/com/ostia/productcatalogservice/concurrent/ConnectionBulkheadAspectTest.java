@@ -0,0 +1,121 @@
+package com.ostia.productcatalogservice.concurrent;
+
+import com.ostia.productcatalogservice.dto.CatalogVersion;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.exception.ServiceAtCapacityException;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import com.ostia.productcatalogservice.service.CategoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConnectionBulkheadAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private ConnectionBulkheadAspect bulkhead;
+    private CategoryService categoryService;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new ConnectionBulkheadAspect(1, Duration.ofMillis(10), registry);
+        var factory = new AspectJProxyFactory(new CategoryService(categoryRepository, mock(ApplicationEventPublisher.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(bulkhead);
+        categoryService = factory.getProxy();
+    }
+
+    @Test
+    void shouldRejectTransactionalCallsBeyondPermits() throws Exception {
+        // Given
+        var entered = new CountDownLatch(1);
+        var proceed = new CountDownLatch(1);
+        when(categoryRepository.findVersionedByNameIgnoreCase("Books")).thenAnswer(invocation -> {
+            entered.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            return Optional.of(category("Books"));
+        });
+        var holder = CompletableFuture.runAsync(() -> categoryService.getCategory("Books"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When + Then
+        assertThatThrownBy(() -> categoryService.getCatalogVersion()).isInstanceOf(ServiceAtCapacityException.class);
+        assertThat(registry.get(ConnectionBulkheadAspect.COUNTER_NAME).tag("reason", "bulkhead").counter().count())
+                .isEqualTo(1);
+
+        proceed.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldHoldAPermitWhileLoadingLookupMisses() throws Exception {
+        // Given
+        var entered = new CountDownLatch(1);
+        var proceed = new CountDownLatch(1);
+        when(categoryRepository.findVersionedByLowerNameIn(List.of("books"))).thenAnswer(invocation -> {
+            entered.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            return List.of(category("Books"));
+        });
+        var holder = CompletableFuture.runAsync(() -> categoryService.getCategoriesByKeys(List.of("books")));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When + Then
+        assertThat(bulkhead.availablePermits()).isZero();
+        assertThatThrownBy(() -> categoryService.getCategoriesByKeys(List.of("music")))
+                .isInstanceOf(ServiceAtCapacityException.class);
+
+        proceed.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLetNestedCallsReuseTheOuterPermit() {
+        // Given
+        when(categoryRepository.findCatalogVersion()).thenReturn(new CatalogVersion(1, Instant.EPOCH));
+        when(categoryRepository.findVersionedByNameIgnoreCase("Books")).thenAnswer(invocation -> {
+            categoryService.getCatalogVersion();
+            return Optional.of(category("Books"));
+        });
+
+        // When
+        var category = categoryService.getCategory("Books");
+
+        // Then
+        assertThat(category.name()).isEqualTo("Books");
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleasePermitWhenCallFails() {
+        // Given
+        when(categoryRepository.findVersionedByNameIgnoreCase("Missing")).thenReturn(Optional.empty());
+
+        // When
+        assertThatThrownBy(() -> categoryService.getCategory("Missing")).isInstanceOf(RuntimeException.class);
+
+        // Then
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    private static VersionedCategoryDTO category(String name) {
+        return new VersionedCategoryDTO(UUID.randomUUID(), name, name + " desc", 0, Instant.now());
+    }
+}
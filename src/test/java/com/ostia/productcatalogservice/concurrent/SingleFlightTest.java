@@ -0,0 +1,125 @@
+package com.ostia.productcatalogservice.concurrent;
+
+import com.ostia.productcatalogservice.exception.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void shouldRunLoaderOnceForConcurrentCallers() throws Exception {
+        // Given
+        int followers = 49;
+        var loads = new AtomicInteger();
+        var coalesced = new AtomicInteger();
+        var values = new ConcurrentLinkedQueue<String>();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        // When
+        var leader = Thread.ofPlatform().start(() -> values.add(singleFlight.execute("books", () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "Books";
+        }).value()));
+        started.await();
+
+        List<Thread> waiting = new ArrayList<>();
+        for (int i = 0; i < followers; i++) {
+            waiting.add(Thread.ofPlatform().start(() -> {
+                var result = singleFlight.execute("books", () -> {
+                    loads.incrementAndGet();
+                    return "Books";
+                });
+                values.add(result.value());
+                if (result.coalesced()) {
+                    coalesced.incrementAndGet();
+                }
+            }));
+        }
+        for (var thread : waiting) {
+            awaitParked(thread);
+        }
+        release.countDown();
+        leader.join();
+        for (var thread : waiting) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(coalesced).hasValue(followers);
+        assertThat(values).hasSize(followers + 1).containsOnly("Books");
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldShareLeaderExceptionWithFollowers() throws Exception {
+        // Given
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var failures = new ConcurrentLinkedQueue<Throwable>();
+
+        // When
+        var leader = Thread.ofPlatform().start(() -> capture(failures, () -> singleFlight.execute("missing", () -> {
+            started.countDown();
+            await(release);
+            throw new EntityNotFoundException("Category", "name", "missing");
+        })));
+        started.await();
+        var follower = Thread.ofPlatform().start(() -> capture(failures, () -> singleFlight.execute("missing", () -> "unexpected")));
+        awaitParked(follower);
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        // Then
+        assertThat(failures).hasSize(2).allMatch(EntityNotFoundException.class::isInstance);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotRetainCompletedCalls() {
+        // When
+        var first = singleFlight.execute("books", () -> "first");
+        var second = singleFlight.execute("books", () -> "second");
+
+        // Then
+        assertThat(first.value()).isEqualTo("first");
+        assertThat(second.value()).isEqualTo("second");
+        assertThat(second.coalesced()).isFalse();
+    }
+
+    private static void capture(Collection<Throwable> failures, Runnable call) {
+        try {
+            call.run();
+        } catch (RuntimeException ex) {
+            failures.add(ex);
+        }
+    }
+
+    private static void awaitParked(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.ostia.productcatalogservice.config;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The JWKS-backed decoder against a stubbed identity provider that counts how often
+ * its key set is fetched.
+ */
+class SecConfigTest {
+
+    private static final String ISSUER = "https://idp.test/realms/ostia";
+
+    private final AtomicInteger jwksFetches = new AtomicInteger();
+    private final AtomicReference<JWKSet> published = new AtomicReference<>();
+
+    private HttpServer identityProvider;
+    private String jwkSetUri;
+    private RSAKey current;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        current = rsaKey("key-1");
+        published.set(new JWKSet(current.toPublicJWK()));
+
+        identityProvider = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        identityProvider.createContext("/certs", exchange -> {
+            jwksFetches.incrementAndGet();
+            byte[] body = published.get().toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        identityProvider.start();
+        jwkSetUri = "http://localhost:" + identityProvider.getAddress().getPort() + "/certs";
+    }
+
+    @AfterEach
+    void tearDown() {
+        identityProvider.stop(0);
+    }
+
+    @Test
+    void shouldFetchTheKeySetOnceWhileCached() {
+        // Given
+        var decoder = decoder(Duration.ofMinutes(5));
+
+        // When
+        decoder.decode(token(current, ISSUER));
+        decoder.decode(token(current, ISSUER));
+
+        // Then
+        assertThat(jwksFetches).hasValue(1);
+    }
+
+    @Test
+    void shouldRefetchTheKeySetOnceTheTtlHasPassed() throws Exception {
+        // Given
+        var decoder = decoder(Duration.ofMillis(200));
+        decoder.decode(token(current, ISSUER));
+
+        // When
+        Thread.sleep(400);
+        decoder.decode(token(current, ISSUER));
+
+        // Then
+        assertThat(jwksFetches).hasValue(2);
+    }
+
+    @Test
+    void shouldRefetchTheKeySetForAnUnknownKeyId() throws Exception {
+        // Given
+        var decoder = decoder(Duration.ofMinutes(5));
+        decoder.decode(token(current, ISSUER));
+
+        var rotated = rsaKey("key-2");
+        published.set(new JWKSet(rotated.toPublicJWK()));
+
+        // When
+        var jwt = decoder.decode(token(rotated, ISSUER));
+
+        // Then
+        assertThat(jwt.getSubject()).isEqualTo("catalog-admin");
+        assertThat(jwksFetches).hasValue(2);
+    }
+
+    @Test
+    void shouldRejectTokensFromAnotherIssuer() {
+        // Given
+        var decoder = decoder(Duration.ofMinutes(5));
+
+        // When + Then
+        assertThatThrownBy(() -> decoder.decode(token(current, "https://elsewhere.test/realms/ostia")))
+                .isInstanceOf(JwtValidationException.class);
+    }
+
+    private JwtDecoder decoder(Duration jwksCacheTtl) {
+        return new SecConfig().jwtDecoder(ISSUER, jwkSetUri, jwksCacheTtl, false, 100, new SimpleMeterRegistry());
+    }
+
+    private static RSAKey rsaKey(String keyId) throws Exception {
+        return new RSAKeyGenerator(2048).keyID(keyId).generate();
+    }
+
+    private static String token(RSAKey key, String issuer) {
+        var claims = JwtClaimsSet.builder()
+                .issuer(issuer)
+                .subject("catalog-admin")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plus(5, ChronoUnit.MINUTES))
+                .build();
+        var header = JwsHeader.with(SignatureAlgorithm.RS256).keyId(key.getKeyID()).build();
+        var encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(key)));
+        return encoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+}
@@ -2,6 +2,7 @@ package com.ostia.productcatalogservice.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.ostia.productcatalogservice.common.ApiVersion;
 import com.ostia.productcatalogservice.exception.ErrorResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,9 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -150,6 +154,175 @@ public class CategoryControllerTest {
         assertThat(description).isEqualTo("Fiction, non-fiction, academic, and more");
     }
 
+    @Test
+    void shouldGetCategoryAsHalWhenRequested() throws JsonProcessingException {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.parseMediaType("application/hal+json")));
+
+        // Act
+        var response = restTemplate.exchange(
+                productEndpoint + "/Books",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).hasToString("application/hal+json");
+        assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT);
+
+        var body = mapper.readTree(response.getBody());
+        assertThat(body.get("name").asText()).isEqualTo("Books");
+        assertThat(body.path("_links").path("self").path("href").asText()).endsWith("/categories/Books");
+    }
+
+    @Test
+    void shouldSearchCategoriesByNamePrefix() throws JsonProcessingException {
+        // Act
+        var response = restTemplate.getForEntity(productEndpoint + "?q=boo", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        var categories = mapper.readTree(response.getBody()).path("_embedded").path("categoryDTOList");
+        assertThat(categories.get(0).get("name").asText()).isEqualTo("Books");
+    }
+
+    @Test
+    void shouldRejectSearchCombinedWithCursorNamesOrPaging() {
+        // Act
+        var withCursor = restTemplate.getForEntity(productEndpoint + "?q=boo&cursor=abc", String.class);
+        var withNames = restTemplate.getForEntity(productEndpoint + "?q=boo&names=Books", String.class);
+        var withPage = restTemplate.getForEntity(productEndpoint + "?q=boo&page=1", String.class);
+        var withSize = restTemplate.getForEntity(productEndpoint + "?q=boo&size=5", String.class);
+
+        // Assert
+        assertThat(withCursor.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(withNames.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(withPage.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(withSize.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldRejectCursorCombinedWithNames() {
+        // Act
+        var response = restTemplate.getForEntity(productEndpoint + "?cursor=&names=Books", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenCategoryETagMatches() {
+        // Arrange
+        var first = restTemplate.getForEntity(productEndpoint + "/Books", String.class);
+        String eTag = first.getHeaders().getETag();
+        assertThat(eTag).isNotNull();
+        assertThat(first.getHeaders().getLastModified()).isPositive();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+
+        // Act
+        var response = restTemplate.exchange(
+                productEndpoint + "/Books",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void shouldGiveEachVariantItsOwnETag() {
+        // Arrange
+        String jsonETag = restTemplate.getForEntity(productEndpoint + "/Books", String.class).getHeaders().getETag();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+        headers.setIfNoneMatch(jsonETag);
+
+        // Act
+        var response = restTemplate.exchange(
+                productEndpoint + "/Books",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                byte[].class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotNull().isNotEqualTo(jsonETag);
+    }
+
+    @Test
+    void shouldAcceptIfMatchFromAnyVariant() {
+        // Arrange
+        HttpHeaders cbor = new HttpHeaders();
+        cbor.setAccept(List.of(MediaType.APPLICATION_CBOR));
+        String cborETag = restTemplate.exchange(productEndpoint + "/Music", HttpMethod.GET, new HttpEntity<>(cbor), byte[].class)
+                .getHeaders().getETag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch(cborETag);
+        HttpEntity<String> request = new HttpEntity<>("""
+                    {
+                      "description": "Updated through a CBOR ETag"
+                    }
+                """, headers);
+
+        // Act
+        var response = restTemplate.exchange(productEndpoint + "/Music", HttpMethod.PUT, request, String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    @Test
+    void shouldGiveEachPageVariantItsOwnETag() {
+        // Arrange
+        String halETag = restTemplate.getForEntity(productEndpoint + "?page=0&size=5", String.class).getHeaders().getETag();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+        headers.setIfNoneMatch(halETag);
+
+        // Act
+        var response = restTemplate.exchange(
+                productEndpoint + "?page=0&size=5",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                byte[].class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotNull().isNotEqualTo(halETag);
+    }
+
+    @Test
+    void shouldReturnPreconditionFailedWhenIfMatchIsStale() {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch("\"stale-etag\"");
+        HttpEntity<String> request = new HttpEntity<>("""
+                    {
+                      "description": "Should not be applied"
+                    }
+                """, headers);
+
+        // Act
+        var response = restTemplate.exchange(
+                productEndpoint + "/Electronics",
+                HttpMethod.PUT,
+                request,
+                String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
     @Test
     void shouldDeleteCategory() {
         // Arrange and act
@@ -228,6 +401,92 @@ public class CategoryControllerTest {
         assertThat(firstCategory.path("_links").has("self")).isTrue();
     }
 
+    @Test
+    void shouldReturnLinkFreePageAsCbor() throws IOException {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+
+        // Act
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+                productEndpoint + "?page=0&size=2",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                byte[].class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+
+        var root = new CBORMapper().readTree(response.getBody());
+        assertThat(root.path("content")).hasSize(2);
+        assertThat(root.path("size").asInt()).isEqualTo(2);
+        assertThat(root.has("_links")).isFalse();
+        assertThat(root.path("content").get(0).has("_links")).isFalse();
+    }
+
+    @Test
+    void shouldWalkCategoriesWithCursorPagination() throws JsonProcessingException {
+        // Arrange
+        String url = productEndpoint + "?cursor=&size=2";
+        List<String> names = new ArrayList<>();
+
+        // Act
+        while (url != null) {
+            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, null, String.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            var root = mapper.readTree(response.getBody());
+            root.path("_embedded").path("categoryDTOList").forEach(category -> names.add(category.get("name").asText()));
+            assertThat(root.has("page")).isFalse();
+
+            var next = root.path("_links").path("next").path("href");
+            url = next.isMissingNode() ? null : next.asText();
+        }
+
+        // Assert
+        assertThat(names).isSorted().doesNotHaveDuplicates().contains("Books", "Electronics");
+    }
+
+    @Test
+    void shouldReturnBadRequestForMalformedCursor() {
+        // Act
+        ResponseEntity<ErrorResponse> response = restTemplate.exchange(
+                productEndpoint + "?cursor=not-a-cursor",
+                HttpMethod.GET,
+                null,
+                ErrorResponse.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(Objects.requireNonNull(response.getBody()).getMessage())
+                .isEqualTo("The pagination cursor is malformed or invalid.");
+    }
+
+    @Test
+    void shouldStreamWholeCatalogAsNdjson() throws JsonProcessingException {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+
+        // Act
+        ResponseEntity<String> response = restTemplate.exchange(
+                productEndpoint, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+
+        String[] lines = Objects.requireNonNull(response.getBody()).split("\n");
+        assertThat(lines.length).isGreaterThanOrEqualTo(3);
+        for (String line : lines) {
+            var category = mapper.readTree(line);
+            assertThat(category.has("name")).isTrue();
+            assertThat(category.has("_links")).isFalse();
+        }
+    }
+
     @Test
     void shouldReturnBadRequestForInvalidPaginationParams() throws JsonProcessingException {
         // Act
@@ -0,0 +1,108 @@
+package com.ostia.productcatalogservice.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ostia.productcatalogservice.common.ApiVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ProductControllerTest {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @LocalServerPort
+    private int port;
+
+    private String productEndpoint;
+    private String categoryEndpoint;
+
+    /**
+     * Products link to categories of their own: other tests update and delete the seeded
+     * ones, and a category with products still linked cannot be deleted.
+     */
+    @BeforeEach
+    public void setUp() {
+        productEndpoint = "http://localhost:" + port + ApiVersion.V1 + "/products";
+        categoryEndpoint = "http://localhost:" + port + ApiVersion.V1 + "/categories";
+        createCategory("Rhythm Games");
+        createCategory("Party Games");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        restTemplate.exchange(productEndpoint + "?name={name}", HttpMethod.DELETE, null, Void.class, "Guitar Hero");
+        restTemplate.exchange(categoryEndpoint + "?name={name}", HttpMethod.DELETE, null, Void.class, "Rhythm Games");
+        restTemplate.exchange(categoryEndpoint + "?name={name}", HttpMethod.DELETE, null, Void.class, "Party Games");
+    }
+
+    @Test
+    void shouldCreateProductAndReturnItWithCategories() throws JsonProcessingException {
+        // Arrange
+        String json = """
+                    {
+                      "name": "Guitar Hero",
+                      "description": "Rhythm game with a plastic guitar",
+                      "price": 49.90,
+                      "categories": ["Rhythm Games", "party games"]
+                    }
+                """;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // Act
+        var created = restTemplate.postForEntity(productEndpoint, new HttpEntity<>(json, headers), String.class);
+        var response = restTemplate.getForEntity(productEndpoint + "/Guitar Hero", String.class);
+
+        // Assert
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(created.getHeaders().getLocation().toString()).contains("/products/");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        var body = mapper.readTree(response.getBody());
+        assertThat(body.get("price").decimalValue()).isEqualByComparingTo("49.90");
+        assertThat(body.get("categories")).extracting(node -> node.asText()).containsExactly("Party Games", "Rhythm Games");
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownCategory() throws JsonProcessingException {
+        // Arrange
+        String json = """
+                    {
+                      "name": "Telescope",
+                      "description": "Stargazing kit",
+                      "price": 199.00,
+                      "categories": ["Astronomy"]
+                    }
+                """;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // Act
+        var response = restTemplate.postForEntity(productEndpoint, new HttpEntity<>(json, headers), String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(mapper.readTree(response.getBody()).get("message").asText())
+                .isEqualTo("Category with name Astronomy does not exist.");
+    }
+
+    private void createCategory(String name) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        var category = mapper.createObjectNode().put("name", name).put("description", "Product test category");
+        restTemplate.postForEntity(categoryEndpoint, new HttpEntity<>(category.toString(), headers), String.class);
+    }
+}
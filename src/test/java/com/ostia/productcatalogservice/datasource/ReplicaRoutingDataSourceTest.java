@@ -0,0 +1,162 @@
+package com.ostia.productcatalogservice.datasource;
+
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+
+    private SingleConnectionDataSource primary;
+    private SingleConnectionDataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedH2("primary");
+        replica = embeddedH2("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE REPLICA_LAG (seconds DOUBLE); INSERT INTO REPLICA_LAG VALUES (0)");
+
+        var messages = mock(CustomMessageResolver.class, invocation -> "replica state changed");
+        routing = new ReplicaRoutingDataSource(primary, replica, Duration.ofMinutes(1), Duration.ofSeconds(1),
+                "SELECT seconds FROM REPLICA_LAG", messages, new SimpleMeterRegistry());
+        var dataSource = new LazyConnectionDataSourceProxy(routing);
+        var transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        primary.destroy();
+        replica.destroy();
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToReplica() {
+        assertThat(readOnly.<String>execute(status -> whereAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldSendWritesToPrimary() {
+        assertThat(readWrite.<String>execute(status -> whereAmI())).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldReadYourOwnWritesFromPrimary() {
+        // Given
+        var writeResponse = bind(new MockHttpServletRequest("PUT", "/api/v1/categories/Books"));
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE MARKER SET name = name"));
+        Cookie lastWrite = writeResponse.getCookie(ReplicaRoutingDataSource.LAST_WRITE_COOKIE);
+
+        // When
+        var sameClient = new MockHttpServletRequest("GET", "/api/v1/categories/Books");
+        sameClient.setCookies(lastWrite);
+        bind(sameClient);
+        String writer = readOnly.execute(status -> whereAmI());
+        bind(new MockHttpServletRequest("GET", "/api/v1/categories/Books"));
+        String other = readOnly.execute(status -> whereAmI());
+
+        // Then
+        assertThat(lastWrite).isNotNull();
+        assertThat(lastWrite.getMaxAge()).isEqualTo(60);
+        assertThat(writer).isEqualTo("primary");
+        assertThat(other).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldNotStickAfterRolledBackWrite() {
+        // Given
+        var response = bind(new MockHttpServletRequest("PUT", "/api/v1/categories/Books"));
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE MARKER SET name = name");
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(response.getCookie(ReplicaRoutingDataSource.LAST_WRITE_COOKIE)).isNull();
+    }
+
+    @Test
+    void shouldIgnoreExpiredWriteCookie() {
+        // Given
+        var request = new MockHttpServletRequest("GET", "/api/v1/categories/Books");
+        request.setCookies(new Cookie(ReplicaRoutingDataSource.LAST_WRITE_COOKIE,
+                Long.toString(System.currentTimeMillis() - Duration.ofMinutes(5).toMillis())));
+        bind(request);
+
+        // Then
+        assertThat(readOnly.<String>execute(status -> whereAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldSendCacheFillsToPrimary() {
+        // When
+        String location;
+        try (var _ = ReplicaRoutingDataSource.readFromPrimary()) {
+            location = readOnly.execute(status -> whereAmI());
+        }
+
+        // Then
+        assertThat(location).isEqualTo("primary");
+        assertThat(readOnly.<String>execute(status -> whereAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhileReplicaLags() {
+        // Given
+        new JdbcTemplate(replica).update("UPDATE REPLICA_LAG SET seconds = 5");
+
+        // When
+        routing.checkReplica();
+
+        // Then
+        assertThat(routing.isReplicaUsable()).isFalse();
+        assertThat(readOnly.<String>execute(status -> whereAmI())).isEqualTo("primary");
+
+        // When
+        new JdbcTemplate(replica).update("UPDATE REPLICA_LAG SET seconds = 0.2");
+        routing.checkReplica();
+
+        // Then
+        assertThat(readOnly.<String>execute(status -> whereAmI())).isEqualTo("replica");
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM MARKER", String.class);
+    }
+
+    private static MockHttpServletResponse bind(MockHttpServletRequest request) {
+        var response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private static SingleConnectionDataSource embeddedH2(String name) {
+        var dataSource = new SingleConnectionDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "", true);
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS; CREATE TABLE MARKER (name VARCHAR(16)); INSERT INTO MARKER VALUES ('" + name + "')");
+        return dataSource;
+    }
+}
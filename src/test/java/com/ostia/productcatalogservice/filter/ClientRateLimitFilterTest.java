@@ -0,0 +1,123 @@
+package com.ostia.productcatalogservice.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ostia.productcatalogservice.filter.ClientRateLimitFilter.Budget;
+import com.ostia.productcatalogservice.filter.ClientRateLimitFilter.Limit;
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClientRateLimitFilterTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+    private final ClientRateLimitFilter filter = filter();
+
+    private ClientRateLimitFilter filter() {
+        var messages = mock(CustomMessageResolver.class);
+        when(messages.get(anyString())).thenReturn("Too many requests. Please slow down.");
+        return new ClientRateLimitFilter(Map.of(
+                Budget.LIST, new Limit(1, 2),
+                Budget.READ, new Limit(100, 100),
+                Budget.WRITE, new Limit(1, 1)
+        ), Duration.ofMinutes(1), 1_000, messages, mapper, meterRegistry, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRejectClientOnceListBudgetIsSpent() throws Exception {
+        // Given
+        authenticate("integration-a");
+        call("GET", "/api/v1/categories");
+        call("GET", "/api/v1/categories");
+
+        // When
+        var rejected = call("GET", "/api/v1/categories");
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(mapper.readTree(rejected.getContentAsString()).get("path").asText()).isEqualTo("/api/v1/categories");
+        assertThat(call("GET", "/api/v1/categories/Books").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(meterRegistry.get(ClientRateLimitFilter.COUNTER_NAME)
+                .tag("budget", "list").tag("outcome", "rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepSeparateBucketsPerSubject() throws Exception {
+        // Given
+        authenticate("integration-a");
+        call("PUT", "/api/v1/categories/Books");
+
+        // When
+        var sameClient = call("PUT", "/api/v1/categories/Books");
+        authenticate("integration-b");
+        var otherClient = call("PUT", "/api/v1/categories/Books");
+
+        // Then
+        assertThat(sameClient.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(otherClient.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void shouldRefillOverTime() throws Exception {
+        // Given
+        authenticate("integration-a");
+        call("POST", "/api/v1/categories");
+        assertThat(call("POST", "/api/v1/categories").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // Then
+        assertThat(call("POST", "/api/v1/categories").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void shouldChargeSubtreeReadsToTheListBudget() {
+        assertThat(ClientRateLimitFilter.budget(new MockHttpServletRequest("GET", "/api/v1/categories/Books/descendants")))
+                .isEqualTo(ClientRateLimitFilter.Budget.LIST);
+        assertThat(ClientRateLimitFilter.budget(new MockHttpServletRequest("GET", "/api/v1/categories/Books/ancestors")))
+                .isEqualTo(ClientRateLimitFilter.Budget.LIST);
+        assertThat(ClientRateLimitFilter.budget(new MockHttpServletRequest("GET", "/api/v1/categories/Books")))
+                .isEqualTo(ClientRateLimitFilter.Budget.READ);
+    }
+
+    @Test
+    void shouldNotLimitActuatorRequests() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(call("GET", "/actuator/health").getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+    }
+
+    private void authenticate(String subject) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(subject, null, "ROLE_USER"));
+    }
+
+    private MockHttpServletResponse call(String method, String uri) throws Exception {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, new MockFilterChain());
+        return response;
+    }
+}
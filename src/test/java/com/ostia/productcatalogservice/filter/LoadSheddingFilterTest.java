@@ -0,0 +1,136 @@
+package com.ostia.productcatalogservice.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoadSheddingFilterTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LoadSheddingFilter filter(int maxLimit, Duration latencyTarget) {
+        var messages = mock(CustomMessageResolver.class);
+        when(messages.get(anyString())).thenReturn("The service is at capacity. Please retry shortly.");
+        return new LoadSheddingFilter(1, maxLimit, latencyTarget, messages, mapper, meterRegistry);
+    }
+
+    @Test
+    void shouldRejectRequestsBeyondLimitWithServiceUnavailable() throws Exception {
+        // Given
+        var filter = filter(1, Duration.ofSeconds(1));
+        var rejected = new MockHttpServletResponse();
+
+        FilterChain holdingChain = (req, res) ->
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories"), rejected, new MockFilterChain());
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories/Books"), new MockHttpServletResponse(), holdingChain);
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(mapper.readTree(rejected.getContentAsString()).get("path").asText()).isEqualTo("/api/v1/categories");
+        assertThat(filter.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldHoldSlotUntilAsyncResponseCompletes() throws Exception {
+        // Given
+        var filter = filter(1, Duration.ofSeconds(1));
+        var request = new MockHttpServletRequest("GET", "/api/v1/categories");
+        request.setAsyncSupported(true);
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        // Then
+        assertThat(filter.inFlight()).isEqualTo(1);
+        request.getAsyncContext().complete();
+        assertThat(filter.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotLimitActuatorRequests() throws Exception {
+        // Given
+        var filter = filter(1, Duration.ofSeconds(1));
+        var response = new MockHttpServletResponse();
+
+        FilterChain holdingChain = (req, res) ->
+                filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, new MockFilterChain());
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories"), new MockHttpServletResponse(), holdingChain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void shouldShedRequestsOnceSlowResponsesLowerTheLimit() throws Exception {
+        // Given
+        var filter = filter(4, Duration.ZERO);
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+        var shed = new MockHttpServletResponse();
+
+        FilterChain innerHoldingChain = (req, res) ->
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories"), shed, new MockFilterChain());
+        FilterChain holdingChain = (req, res) ->
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories/Music"), new MockHttpServletResponse(), innerHoldingChain);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories/Books"), new MockHttpServletResponse(), holdingChain);
+
+        // Then
+        assertThat(filter.concurrencyLimit()).isLessThan(4);
+        assertThat(shed.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(meterRegistry.get(LoadSheddingFilter.COUNTER_NAME).tag("reason", "adaptive-limit").counter().count())
+                .isEqualTo(1);
+        assertThat(filter.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldLowerTheLimitWhenTheBulkheadTurnsARequestAway() throws Exception {
+        // Given
+        var filter = filter(10, Duration.ofSeconds(1));
+        FilterChain bulkheadFull = (req, res) -> ((HttpServletResponse) res).setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories/Books"), new MockHttpServletResponse(), bulkheadFull);
+
+        // Then
+        assertThat(filter.concurrencyLimit()).isEqualTo(9);
+        assertThat(filter.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotLetSlowImportsAndMovesLowerTheLimit() throws Exception {
+        // Given
+        var filter = filter(4, Duration.ZERO);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/categories/bulk"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/categories/Books/parent"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(filter.concurrencyLimit()).isEqualTo(4);
+        assertThat(filter.inFlight()).isZero();
+    }
+}
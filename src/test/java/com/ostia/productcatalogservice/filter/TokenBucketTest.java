@@ -0,0 +1,72 @@
+package com.ostia.productcatalogservice.filter;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void shouldAllowBurstThenRefillAtRate() {
+        // Given
+        var bucket = new TokenBucket(10, 3);
+        long now = 5 * SECOND;
+
+        // When + Then
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isEqualTo(SECOND / 10);
+        assertThat(bucket.tryAcquire(now + SECOND / 10)).isZero();
+        assertThat(bucket.tryAcquire(now + SECOND / 10)).isPositive();
+    }
+
+    @Test
+    void shouldNotRefillBeyondBurstWhenIdle() {
+        // Given
+        var bucket = new TokenBucket(10, 2);
+        bucket.tryAcquire(0);
+
+        // When
+        long later = 60 * SECOND;
+        int admitted = 0;
+        while (bucket.tryAcquire(later) == 0) {
+            admitted++;
+        }
+
+        // Then
+        assertThat(admitted).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAdmitExactlyTheBurstUnderContention() throws Exception {
+        // Given
+        var bucket = new TokenBucket(1, 100);
+        var admitted = new AtomicInteger();
+        var start = new CountDownLatch(1);
+
+        // When
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 1_000; j++) {
+                        if (bucket.tryAcquire(SECOND) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        // Then
+        assertThat(admitted).hasValue(100);
+    }
+}
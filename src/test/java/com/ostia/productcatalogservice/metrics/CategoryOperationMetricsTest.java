@@ -0,0 +1,79 @@
+package com.ostia.productcatalogservice.metrics;
+
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.exception.EntityAlreadyExistsException;
+import com.ostia.productcatalogservice.exception.EntityNotFoundException;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import com.ostia.productcatalogservice.service.CategoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CategoryOperationMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private CategoryService categoryService;
+
+    @BeforeEach
+    void setUp() {
+        var factory = new AspectJProxyFactory(new CategoryService(categoryRepository, mock(ApplicationEventPublisher.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CategoryOperationMetrics(registry));
+        categoryService = factory.getProxy();
+    }
+
+    @Test
+    void shouldTagSuccessfulLookupWithOperationAndOutcome() {
+        // Given
+        when(categoryRepository.findVersionedByNameIgnoreCase("Books"))
+                .thenReturn(Optional.of(new VersionedCategoryDTO(UUID.randomUUID(), "Books", "Books desc", 0, Instant.now())));
+
+        // When
+        categoryService.getCategory("Books");
+
+        // Then
+        assertThat(timerCount("get", "found")).isEqualTo(1);
+        assertThat(timerCount("get", "success")).isZero();
+    }
+
+    @Test
+    void shouldTagMissingCategoryAsNotFound() {
+        // Given
+        when(categoryRepository.findVersionedByNameIgnoreCase("Missing")).thenReturn(Optional.empty());
+
+        // When + Then
+        assertThatThrownBy(() -> categoryService.getCategory("Missing")).isInstanceOf(EntityNotFoundException.class);
+        assertThat(timerCount("get", "not-found")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTagDuplicateAddAsConflict() {
+        // Given
+        when(categoryRepository.existsByNameIgnoreCase("Books")).thenReturn(true);
+
+        // When + Then
+        assertThatThrownBy(() -> categoryService.addCategory(new CategoryDTO("Books", "Books desc")))
+                .isInstanceOf(EntityAlreadyExistsException.class);
+        assertThat(timerCount("add", "conflict")).isEqualTo(1);
+    }
+
+    private long timerCount(String operation, String outcome) {
+        var timer = registry.find(CategoryOperationMetrics.TIMER_NAME)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
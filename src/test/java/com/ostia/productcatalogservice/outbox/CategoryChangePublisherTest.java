@@ -0,0 +1,145 @@
+package com.ostia.productcatalogservice.outbox;
+
+import com.ostia.productcatalogservice.dto.CategoryChangeDTO;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.dto.UpdateCategoryDTO;
+import com.ostia.productcatalogservice.event.CategoryChangedEvent.ChangeType;
+import com.ostia.productcatalogservice.repository.CategoryChangeRepository;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import com.ostia.productcatalogservice.service.CategoryChangeService;
+import com.ostia.productcatalogservice.service.CategoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        CategoryService.class,
+        CategoryChangeService.class,
+        CategoryChangeOutbox.class,
+        CategoryChangePublisher.class,
+        CategoryChangePublisherTest.Sinks.class
+})
+class CategoryChangePublisherTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryChangeService categoryChangeService;
+
+    @Autowired
+    private CategoryChangePublisher publisher;
+
+    @Autowired
+    private InMemorySink sink;
+
+    @Autowired
+    private CategoryChangeRepository changeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        changeRepository.deleteAll();
+        List.of("Garden", "Kitchen", "Office").forEach(name ->
+                categoryRepository.findByNameIgnoreCase(name).ifPresent(categoryRepository::delete));
+        sink.received.clear();
+    }
+
+    @Test
+    void shouldPublishChangesInCommitOrderWithIncreasingSequences() {
+        // Given
+        categoryService.addCategory(new CategoryDTO("Garden", "Plants and tools"));
+        categoryService.updateCategory("Garden", new UpdateCategoryDTO("Plants, seeds and tools"), null);
+        categoryService.deleteCategory("Garden", null);
+
+        // When
+        int published = publisher.publishBatch();
+
+        // Then
+        assertThat(published).isEqualTo(3);
+        assertThat(sink.received).extracting(CategoryChangeDTO::sequence).containsExactly(1L, 2L, 3L);
+        assertThat(sink.received).extracting(CategoryChangeDTO::type)
+                .containsExactly(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.DELETED);
+        assertThat(publisher.publishBatch()).isZero();
+    }
+
+    @Test
+    void shouldServeFeedAfterGivenSequence() {
+        // Given
+        categoryService.addCategory(new CategoryDTO("Garden", "Plants and tools"));
+        categoryService.addCategory(new CategoryDTO("Kitchen", "Cookware"));
+        publisher.publishBatch();
+        categoryService.addCategory(new CategoryDTO("Office", "Desks and stationery"));
+
+        // When
+        var beforePublish = categoryChangeService.getChangesSince(1, 100);
+        publisher.publishBatch();
+        var afterPublish = categoryChangeService.getChangesSince(1, 100);
+
+        // Then
+        assertThat(beforePublish.changes()).extracting(CategoryChangeDTO::name).containsExactly("Kitchen");
+        assertThat(beforePublish.next()).isEqualTo(2);
+        assertThat(afterPublish.changes()).extracting(CategoryChangeDTO::name).containsExactly("Kitchen", "Office");
+        assertThat(afterPublish.next()).isEqualTo(3);
+        assertThat(categoryChangeService.getChangesSince(3, 100).changes()).isEmpty();
+    }
+
+    @Test
+    void shouldLeaveChangesPendingWhenSinkFails() {
+        // Given
+        categoryService.addCategory(new CategoryDTO("Garden", "Plants and tools"));
+        sink.failNext = true;
+
+        // When
+        assertThatThrownBy(publisher::publishBatch).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(publisher.publishBatch()).isEqualTo(1);
+        assertThat(sink.received).extracting(CategoryChangeDTO::name).containsExactly("Garden");
+    }
+
+    static class InMemorySink implements CategoryChangeSink {
+
+        final List<CategoryChangeDTO> received = new CopyOnWriteArrayList<>();
+        volatile boolean failNext;
+
+        @Override
+        public void publish(List<CategoryChangeDTO> changes) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("Sink unavailable");
+            }
+            received.addAll(changes);
+        }
+    }
+
+    @TestConfiguration
+    static class Sinks {
+
+        @Bean
+        InMemorySink inMemorySink() {
+            return new InMemorySink();
+        }
+
+        @Bean
+        SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.ostia.productcatalogservice.repository;
 
+import com.ostia.productcatalogservice.model.Category;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 public class CategoryRepositoryTest {
@@ -13,14 +16,33 @@ public class CategoryRepositoryTest {
 
     @Test
     void shouldReturnTrueWhenCategoryWithNameExists() {
-        boolean exists = categoryRepository.existsByName("Electronics");
+        boolean exists = categoryRepository.existsByNameIgnoreCase("Electronics");
         assertThat(exists).isTrue();
     }
 
     @Test
     void shouldReturnFalseWhenCategoryWithNameDoesNotExist() {
 
-        boolean exists = categoryRepository.existsByName("NonExistingCategory");
+        boolean exists = categoryRepository.existsByNameIgnoreCase("NonExistingCategory");
         assertThat(exists).isFalse();
     }
+
+    @Test
+    void shouldMatchNamesRegardlessOfCase() {
+        assertThat(categoryRepository.existsByNameIgnoreCase("electronics")).isTrue();
+        assertThat(categoryRepository.findByNameIgnoreCase("VIDEO GAMES"))
+                .get()
+                .extracting(Category::getName)
+                .isEqualTo("Video Games");
+    }
+
+    @Test
+    void shouldRejectNameThatDiffersOnlyInCase() {
+        var category = new Category();
+        category.setName("BOOKS");
+        category.setDescription("Shouting about books");
+
+        assertThatThrownBy(() -> categoryRepository.saveAndFlush(category))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
 }
\ No newline at end of file
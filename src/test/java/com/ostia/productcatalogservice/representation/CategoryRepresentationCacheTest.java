@@ -0,0 +1,79 @@
+package com.ostia.productcatalogservice.representation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ostia.productcatalogservice.assembler.CategoryModelAssembler;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.event.CategoryChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryRepresentationCacheTest {
+
+    private final CategoryRepresentationCache cache = new CategoryRepresentationCache(
+            new ObjectMapper(), new CategoryModelAssembler(), new SimpleMeterRegistry(), 1024 * 1024);
+
+    private final UUID id = UUID.randomUUID();
+
+    @Test
+    void shouldReuseEncodedBodyForSameVersion() {
+        // Given
+        var books = new VersionedCategoryDTO(id, "Books", "Fiction", 0, Instant.EPOCH);
+
+        // When
+        byte[] first = cache.get(books, MediaType.APPLICATION_JSON);
+        byte[] second = cache.get(books, MediaType.APPLICATION_JSON);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8))
+                .isEqualTo("{\"name\":\"Books\",\"description\":\"Fiction\"}");
+    }
+
+    @Test
+    void shouldEncodeNewVersionAgain() {
+        // Given
+        cache.get(new VersionedCategoryDTO(id, "Books", "Fiction", 0, Instant.EPOCH), MediaType.APPLICATION_JSON);
+
+        // When
+        byte[] updated = cache.get(new VersionedCategoryDTO(id, "Books", "Comics", 1, Instant.EPOCH), MediaType.APPLICATION_JSON);
+
+        // Then
+        assertThat(new String(updated, StandardCharsets.UTF_8)).contains("Comics");
+    }
+
+    @Test
+    void shouldEvictOnUpdateAndDelete() {
+        // Given
+        cache.get(new VersionedCategoryDTO(id, "Books", "Fiction", 0, Instant.EPOCH), MediaType.APPLICATION_JSON);
+        cache.get(new VersionedCategoryDTO(UUID.randomUUID(), "Music", "Vinyl", 0, Instant.EPOCH), MediaType.APPLICATION_JSON);
+
+        // When
+        cache.onCategoryChanged(CategoryChangedEvent.created("Garden", "Plants"));
+        cache.onCategoryChanged(CategoryChangedEvent.deleted("books"));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.indexedNames()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictEveryVariantAndVersionOfChangedCategory() {
+        // Given
+        var books = new VersionedCategoryDTO(id, "Books", "Fiction", 0, Instant.EPOCH);
+        cache.preload(books);
+        cache.get(new VersionedCategoryDTO(id, "Books", "Comics", 1, Instant.EPOCH), MediaType.APPLICATION_JSON);
+
+        // When
+        cache.onCategoryChanged(CategoryChangedEvent.updated("BOOKS", "Comics"));
+
+        // Then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.indexedNames()).isZero();
+    }
+}
@@ -0,0 +1,186 @@
+package com.ostia.productcatalogservice.search;
+
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.event.CategoryChangedEvent;
+import com.ostia.productcatalogservice.service.CategoryService;
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CategorySearchIndexTest {
+
+    private final CategoryService categoryService = mock(CategoryService.class);
+    private final CategorySearchIndex index = new CategorySearchIndex(categoryService, messages());
+
+    @BeforeEach
+    void setUp() {
+        index.put("Electronics", "Devices, gadgets, and tech accessories");
+        index.put("Books", "Fiction, non-fiction, academic, and more");
+        index.put("Video Games", "Consoles, games and gaming accessories");
+        index.put("Board Games", "Family and strategy games");
+        index.put("Cafés", "Coffee shops and tea rooms");
+    }
+
+    @Test
+    void shouldRankNamePrefixMatchesAboveDescriptionMatches() {
+        // When
+        var results = index.search("ga", 10);
+
+        // Then
+        assertThat(results).extracting(CategoryDTO::name)
+                .containsExactly("Board Games", "Video Games", "Electronics");
+    }
+
+    @Test
+    void shouldRankWholeNamePrefixFirst() {
+        // When
+        var results = index.search("video g", 10);
+
+        // Then
+        assertThat(results).extracting(CategoryDTO::name).containsExactly("Video Games");
+    }
+
+    @Test
+    void shouldIgnoreCaseAndAccents() {
+        // When
+        var results = index.search("CAFE", 10);
+
+        // Then
+        assertThat(results).extracting(CategoryDTO::name).containsExactly("Cafés");
+    }
+
+    @Test
+    void shouldFollowUpdatesAndDeletes() {
+        // When
+        index.onCategoryChanged(CategoryChangedEvent.updated("Books", "Paperbacks and comics"));
+        index.onCategoryChanged(CategoryChangedEvent.deleted("video games"));
+
+        // Then
+        assertThat(index.search("fiction", 10)).isEmpty();
+        assertThat(index.search("comics", 10)).extracting(CategoryDTO::name).containsExactly("Books");
+        assertThat(index.search("video", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldReturnNothingForBlankQuery() {
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldRankEveryMatchOfAShortPrefix() {
+        // Given
+        for (int i = 0; i < 5_000; i++) {
+            index.put("Garden tool " + i, "Outdoor equipment");
+        }
+        index.put("Gaze", "Telescopes");
+
+        // When
+        var results = index.search("ga", 3);
+
+        // Then
+        assertThat(results).extracting(CategoryDTO::name).containsExactly("Gaze", "Garden tool 0", "Garden tool 1");
+    }
+
+    @Test
+    void shouldKeepCachedTopHitsExactAcrossWrites() {
+        // Given
+        var reference = new CategorySearchIndex(categoryService, messages());
+        var both = List.of(index, reference);
+        for (int i = 0; i < 500; i++) {
+            String name = "Garden tool " + i;
+            both.forEach(target -> target.put(name, "Outdoor equipment"));
+        }
+        index.search("ga", 3);
+        index.search("garden t", 3);
+
+        // When
+        for (int i = 0; i < 450; i += 2) {
+            String name = "Garden tool " + i;
+            both.forEach(target -> target.remove(name));
+        }
+        both.forEach(target -> target.put("Gab", "Chatter"));
+        both.forEach(target -> target.put("Garden tool 7", "Sheds"));
+        both.forEach(target -> target.put("Garden tool 9", "Gazebos"));
+
+        // Then
+        for (String query : List.of("ga", "garden t")) {
+            for (int limit : List.of(3, 150)) {
+                assertThat(index.search(query, limit)).isEqualTo(reference.search(query, limit));
+            }
+        }
+        assertThat(index.search("ga", 1)).extracting(CategoryDTO::name).containsExactly("Gab");
+    }
+
+    @Test
+    void shouldDropCategoriesDeletedElsewhereOnRebuild() {
+        // Given
+        exportOnRebuild(sink -> {
+            sink.accept(new CategoryDTO("Books", "Fiction, non-fiction, academic, and more"));
+            sink.accept(new CategoryDTO("Cafés", "Coffee, tea and cake"));
+        });
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("video", 10)).isEmpty();
+        assertThat(index.search("cake", 10)).extracting(CategoryDTO::name).containsExactly("Cafés");
+    }
+
+    @Test
+    void shouldKeepChangesCommittedDuringRebuild() {
+        // Given
+        exportOnRebuild(sink -> {
+            sink.accept(new CategoryDTO("Books", "Fiction, non-fiction, academic, and more"));
+            index.onCategoryChanged(CategoryChangedEvent.created("Garden", "Plants and tools"));
+            index.onCategoryChanged(CategoryChangedEvent.updated("Books", "Paperbacks and comics"));
+        });
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.search("garden", 10)).extracting(CategoryDTO::name).containsExactly("Garden");
+        assertThat(index.search("comics", 10)).extracting(CategoryDTO::name).containsExactly("Books");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotReloadOnReadyWhenWarmUpBuiltTheIndex() {
+        // Given
+        exportOnRebuild(sink -> sink.accept(new CategoryDTO("Books", "Fiction, non-fiction, academic, and more")));
+        index.rebuild();
+
+        // When
+        index.load();
+
+        // Then
+        verify(categoryService, times(1)).exportCategories(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void exportOnRebuild(Consumer<Consumer<CategoryDTO>> rows) {
+        doAnswer(invocation -> {
+            rows.accept(invocation.getArgument(0, Consumer.class));
+            return null;
+        }).when(categoryService).exportCategories(any());
+    }
+
+    private static CustomMessageResolver messages() {
+        var messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        return new CustomMessageResolver(messageSource);
+    }
+}
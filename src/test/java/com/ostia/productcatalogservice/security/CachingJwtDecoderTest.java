@@ -0,0 +1,110 @@
+package com.ostia.productcatalogservice.security;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingJwtDecoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private NimbusJwtEncoder encoder;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        var key = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+                .privateKey((RSAPrivateKey) keyPair.getPrivate())
+                .keyID("local")
+                .build();
+        encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(key)));
+
+        var verifier = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+        JwtDecoder counting = token -> {
+            verifications.incrementAndGet();
+            return verifier.decode(token);
+        };
+        decoder = new CachingJwtDecoder(counting, new KeycloakRealmRoleConverter(), 100, registry, Clock.systemUTC());
+    }
+
+    @Test
+    void shouldVerifySignatureOnlyOnceForRepeatedToken() {
+        // Given
+        String token = token(Instant.now().plus(5, ChronoUnit.MINUTES));
+
+        // When
+        var first = decoder.decode(token);
+        var second = decoder.decode(token);
+
+        // Then
+        assertThat(verifications).hasValue(1);
+        assertThat(second.getSubject()).isEqualTo(first.getSubject());
+        assertThat(registry.find(CachingJwtDecoder.TIMER_NAME).tag("cache", "hit").timer().count()).isEqualTo(1);
+        assertThat(registry.find(CachingJwtDecoder.TIMER_NAME).tag("cache", "miss").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServePrecomputedRealmRoles() {
+        // Given
+        var jwt = decoder.decode(token(Instant.now().plus(5, ChronoUnit.MINUTES)));
+
+        // When
+        var authorities = decoder.cachedAuthoritiesConverter().convert(jwt);
+
+        // Then
+        assertThat(authorities).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_PRODUCT_CATALOG_MANAGER");
+    }
+
+    @Test
+    void shouldNotCacheRejectedTokens() {
+        // Given
+        String tampered = token(Instant.now().plus(5, ChronoUnit.MINUTES)) + "x";
+
+        // When + Then
+        assertThatThrownBy(() -> decoder.decode(tampered)).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode(tampered)).isInstanceOf(BadJwtException.class);
+        assertThat(verifications).hasValue(2);
+        assertThat(decoder.cachedTokenCount()).isZero();
+    }
+
+    private String token(Instant expiresAt) {
+        var claims = JwtClaimsSet.builder()
+                .subject("catalog-admin")
+                .issuedAt(Instant.now())
+                .expiresAt(expiresAt)
+                .claim("realm_access", Map.of("roles", List.of("PRODUCT_CATALOG_MANAGER")))
+                .build();
+        var header = JwsHeader.with(SignatureAlgorithm.RS256).keyId("local").build();
+        return encoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+}
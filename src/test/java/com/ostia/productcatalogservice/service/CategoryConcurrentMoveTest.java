@@ -0,0 +1,118 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.concurrent.ConflictRetryAspect;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.exception.InvalidCategoryMoveException;
+import com.ostia.productcatalogservice.model.Category;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two moves that would each be valid alone but together close a cycle, raced
+ * against the real database.
+ */
+@DataJpaTest(properties = {
+        "catalog.update.retry.max-attempts=20",
+        "catalog.update.retry.initial-backoff=1ms",
+        "catalog.update.retry.max-backoff=20ms"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CategoryService.class, CategoryTreeService.class, ConflictRetryAspect.class, CategoryConcurrentMoveTest.Aop.class})
+class CategoryConcurrentMoveTest {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryTreeService categoryTreeService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        categoryService.addCategory(new CategoryDTO("Left", "Raced move"));
+        categoryService.addCategory(new CategoryDTO("Right", "Raced move"));
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        categoryTreeService.moveCategory("Left", null);
+        categoryTreeService.moveCategory("Right", null);
+        categoryRepository.findByNameIgnoreCase("Left").ifPresent(categoryRepository::delete);
+        categoryRepository.findByNameIgnoreCase("Right").ifPresent(categoryRepository::delete);
+    }
+
+    @Test
+    void shouldNeverLetOpposingMovesBothSucceed() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            // Given
+            categoryTreeService.moveCategory("Left", null);
+            categoryTreeService.moveCategory("Right", null);
+            var start = new CountDownLatch(1);
+
+            // When
+            Future<Boolean> leftUnderRight = executor.submit(() -> move(start, "Left", "Right"));
+            Future<Boolean> rightUnderLeft = executor.submit(() -> move(start, "Right", "Left"));
+            start.countDown();
+
+            // Then
+            assertThat(leftUnderRight.get(30, TimeUnit.SECONDS) ^ rightUnderLeft.get(30, TimeUnit.SECONDS))
+                    .as("exactly one move wins in round %d", round)
+                    .isTrue();
+            var left = categoryRepository.findByNameIgnoreCase("Left").orElseThrow();
+            var right = categoryRepository.findByNameIgnoreCase("Right").orElseThrow();
+            assertThat(isAncestor(left, right) && isAncestor(right, left)).isFalse();
+        }
+    }
+
+    private boolean move(CountDownLatch start, String name, String parentName) throws InterruptedException {
+        start.await();
+        try {
+            categoryTreeService.moveCategory(name, parentName);
+            return true;
+        } catch (InvalidCategoryMoveException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isAncestor(Category ancestor, Category category) {
+        return category.getSubtreePath().startsWith(ancestor.getSubtreePath()) && !ancestor.getId().equals(category.getId());
+    }
+
+    @TestConfiguration
+    @EnableAspectJAutoProxy
+    static class Aop {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
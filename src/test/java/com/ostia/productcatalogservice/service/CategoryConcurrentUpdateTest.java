@@ -0,0 +1,158 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.concurrent.ConflictRetryAspect;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.dto.UpdateCategoryDTO;
+import com.ostia.productcatalogservice.exception.PreconditionFailedException;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many writers on one row, each in its own transaction, against the real database.
+ */
+@DataJpaTest(properties = {
+        "catalog.update.retry.max-attempts=1000",
+        "catalog.update.retry.initial-backoff=1ms",
+        "catalog.update.retry.max-backoff=20ms"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CategoryService.class, ConflictRetryAspect.class, CategoryConcurrentUpdateTest.Aop.class})
+class CategoryConcurrentUpdateTest {
+
+    private static final String NAME = "Stress";
+    private static final int WRITERS = 16;
+    private static final int UPDATES_PER_WRITER = 25;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry.clear();
+        categoryService.addCategory(new CategoryDTO(NAME, "Contended row"));
+        executor = Executors.newFixedThreadPool(WRITERS);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        categoryRepository.findByNameIgnoreCase(NAME).ifPresent(categoryRepository::delete);
+    }
+
+    @Test
+    void shouldApplyEveryUnconditionalUpdateWithoutLosingAny() throws Exception {
+        // Given
+        int initialVersion = categoryService.getCategory(NAME).version();
+
+        // When
+        List<Boolean> outcomes = race(writer -> {
+            for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                categoryService.updateCategory(NAME, new UpdateCategoryDTO("Writer " + writer + " update " + i), null);
+            }
+            return true;
+        });
+
+        // Then
+        assertThat(outcomes).containsOnly(true);
+        assertThat(categoryService.getCategory(NAME).version())
+                .isEqualTo(initialVersion + WRITERS * UPDATES_PER_WRITER);
+        assertThat(conflicts("exhausted")).isZero();
+    }
+
+    @Test
+    void shouldLetExactlyOneConditionalUpdateWinWithoutRetrying() throws Exception {
+        // Given
+        int version = categoryService.getCategory(NAME).version();
+
+        // When
+        List<Boolean> outcomes = race(writer -> {
+            try {
+                categoryService.updateCategory(NAME, new UpdateCategoryDTO("Writer " + writer), version);
+                return true;
+            } catch (PreconditionFailedException ex) {
+                return false;
+            }
+        });
+
+        // Then
+        assertThat(outcomes).filteredOn(Boolean::booleanValue).hasSize(1);
+        assertThat(categoryService.getCategory(NAME).version()).isEqualTo(version + 1);
+        assertThat(conflicts("retried")).isZero();
+    }
+
+    private List<Boolean> race(Writer writer) throws Exception {
+        var start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>(WRITERS);
+        for (int i = 0; i < WRITERS; i++) {
+            int id = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return writer.write(id);
+            }));
+        }
+        start.countDown();
+
+        List<Boolean> outcomes = new ArrayList<>(WRITERS);
+        for (var future : futures) {
+            outcomes.add(future.get(60, TimeUnit.SECONDS));
+        }
+        return outcomes;
+    }
+
+    private double conflicts(String outcome) {
+        return Search.in(meterRegistry)
+                .name(ConflictRetryAspect.COUNTER_NAME)
+                .tag("outcome", outcome)
+                .counters()
+                .stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        boolean write(int writer);
+    }
+
+    @TestConfiguration
+    @EnableAspectJAutoProxy
+    static class Aop {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.dto.BulkImportItemResult;
+import com.ostia.productcatalogservice.dto.BulkImportItemResult.Status;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import(CategoryImportService.class)
+class CategoryImportServiceTest {
+
+    @Autowired
+    private CategoryImportService categoryImportService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldReportPerItemResults() {
+        // Given
+        var categories = List.of(
+                new CategoryDTO("Garden", "Plants and tools"),
+                new CategoryDTO("books", "Already in the catalog"),
+                new CategoryDTO("GARDEN", "Repeated in the same request"),
+                new CategoryDTO("", "Blank name"));
+
+        // When
+        var result = categoryImportService.importCategories(categories);
+
+        // Then
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.items()).extracting(BulkImportItemResult::status)
+                .containsExactly(Status.CREATED, Status.ALREADY_EXISTS, Status.DUPLICATE_IN_REQUEST, Status.INVALID);
+        assertThat(result.items().get(0).id()).isNotNull();
+        assertThat(categoryRepository.existsByNameIgnoreCase("Garden")).isTrue();
+    }
+
+    @Test
+    void shouldDedupeAndInsertOneJdbcBatchAtATime() {
+        // Given
+        var categories = IntStream.range(0, 1200)
+                .mapToObj(i -> new CategoryDTO("Imported " + i, "Bulk imported category"))
+                .iterator();
+
+        // When
+        var result = categoryImportService.importCategories(categories);
+
+        // Then
+        assertThat(result.created()).isEqualTo(1200);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1200);
+        // batches of 500, 500 and 200 rows: one name lookup and one insert batch each
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldFoldDuplicatesAcrossBatches() {
+        // Given
+        List<CategoryDTO> categories = new ArrayList<>();
+        IntStream.range(0, 600).forEach(i -> categories.add(new CategoryDTO("Imported " + i, "Bulk imported category")));
+        categories.set(550, new CategoryDTO("IMPORTED 3", "Repeated in a later batch"));
+
+        // When
+        var result = categoryImportService.importCategories(categories);
+
+        // Then
+        assertThat(result.created()).isEqualTo(599);
+        assertThat(result.items()).hasSize(600);
+        assertThat(result.items().get(550).index()).isEqualTo(550);
+        assertThat(result.items().get(550).status()).isEqualTo(Status.DUPLICATE_IN_REQUEST);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import java.util.List;
+
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORIES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CategoryLookupService.class, CategoryService.class, CategoryLookupServiceTest.Caches.class})
+class CategoryLookupServiceTest {
+
+    @Autowired
+    private CategoryLookupService categoryLookupService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldResolveAllNamesWithOneQuery() {
+        // When
+        var result = categoryLookupService.getCategories(List.of("music", "Garden", "BOOKS", "Books", "Electronics"));
+
+        // Then
+        assertThat(result.found()).extracting(CategoryDTO::name).containsExactly("Music", "Books", "Electronics");
+        assertThat(result.missing()).containsExactly("Garden");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeCachedNamesWithoutQuerying() {
+        // Given
+        categoryLookupService.getCategories(List.of("Books", "Music"));
+        statistics.clear();
+
+        // When
+        var cachedOnly = categoryLookupService.getCategories(List.of("music", "books"));
+        long cachedStatements = statistics.getPrepareStatementCount();
+        var mixed = categoryLookupService.getCategories(List.of("Books", "Video Games"));
+
+        // Then
+        assertThat(cachedOnly.found()).extracting(CategoryDTO::name).containsExactly("Music", "Books");
+        assertThat(cachedStatements).isZero();
+        assertThat(mixed.found()).extracting(CategoryDTO::name).containsExactly("Books", "Video Games");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @TestConfiguration
+    static class Caches {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CATEGORIES);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.config.CacheConfig;
+import com.ostia.productcatalogservice.dto.CategoryDTO;
+import com.ostia.productcatalogservice.dto.UpdateCategoryDTO;
+import com.ostia.productcatalogservice.exception.EntityNotFoundException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Import({CategoryService.class, CategoryMissCache.class, CacheConfig.class, CategoryServiceCacheTest.Aop.class})
+class CategoryServiceCacheTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCacheCaseInsensitively() {
+        // When
+        categoryService.getCategory("Books");
+        var cached = categoryService.getCategory("BOOKS");
+
+        // Then
+        assertThat(cached.name()).isEqualTo("Books");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldInvalidateCachedCategoryOnUpdate() {
+        // Given
+        categoryService.getCategory("Music");
+
+        // When
+        categoryService.updateCategory("music", new UpdateCategoryDTO("Updated description"), null);
+
+        // Then
+        assertThat(categoryService.getCategory("Music").description()).isEqualTo("Updated description");
+    }
+
+    @Test
+    void shouldInvalidateCachedCategoryOnDelete() {
+        // Given
+        categoryService.getCategory("Video Games");
+
+        // When
+        categoryService.deleteCategory("Video Games", null);
+
+        // Then
+        assertThatThrownBy(() -> categoryService.getCategory("Video Games"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void shouldInvalidateCachedPagesOnAdd() {
+        // Given
+        var pageable = PageRequest.of(0, 100);
+        long before = categoryService.getAllCategories(pageable).getTotalElements();
+
+        // When
+        categoryService.addCategory(new CategoryDTO("Garden", "Plants and tools"));
+
+        // Then
+        assertThat(categoryService.getAllCategories(pageable).getTotalElements()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void shouldServeRepeatedMissesFromNegativeCache() {
+        // When
+        assertThatThrownBy(() -> categoryService.getCategory("Astronomy")).isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> categoryService.getCategory("ASTRONOMY")).isInstanceOf(EntityNotFoundException.class);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldForgetCachedMissOnAdd() {
+        // Given
+        assertThatThrownBy(() -> categoryService.getCategory("Astronomy")).isInstanceOf(EntityNotFoundException.class);
+
+        // When
+        categoryService.addCategory(new CategoryDTO("Astronomy", "Telescopes and star charts"));
+
+        // Then
+        assertThat(categoryService.getCategory("astronomy").name()).isEqualTo("Astronomy");
+    }
+
+    @TestConfiguration
+    @EnableAspectJAutoProxy
+    static class Aop {
+    }
+}
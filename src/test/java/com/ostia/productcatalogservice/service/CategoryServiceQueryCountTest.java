@@ -0,0 +1,88 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.common.CategoryOrder;
+import com.ostia.productcatalogservice.exception.EntityNotFoundException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(CategoryService.class)
+class CategoryServiceQueryCountTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldGetCategoryWithSingleQuery() {
+        // When
+        var category = categoryService.getCategory("Books");
+
+        // Then
+        assertThat(category.name()).isEqualTo("Books");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportMissingCategoryWithSingleQuery() {
+        // When + Then
+        assertThatThrownBy(() -> categoryService.getCategory("France"))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeleteCategoryWithProjectionReadAndBulkDelete() {
+        // When
+        categoryService.deleteCategory("Video Games", null);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldReportMissingCategoryOnDeleteWithSingleStatement() {
+        // When + Then
+        assertThatThrownBy(() -> categoryService.deleteCategory("France", null))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadEveryKeysetPageWithSingleQueryAndNoCount() {
+        for (CategoryOrder order : CategoryOrder.values()) {
+            // Given
+            var first = categoryService.getCategoriesAfter("", 2, order);
+            statistics.clear();
+
+            // When
+            var second = categoryService.getCategoriesAfter(first.nextCursor(), 2, order);
+
+            // Then
+            assertThat(first.content()).hasSize(2);
+            assertThat(second.content()).hasSize(2).doesNotContainAnyElementsOf(first.content());
+            assertThat(second.hasNext()).isFalse();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.ostia.productcatalogservice.service;
 
 import com.ostia.productcatalogservice.dto.CategoryDTO;
 import com.ostia.productcatalogservice.dto.UpdateCategoryDTO;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.event.CategoryChangedEvent;
+import com.ostia.productcatalogservice.exception.ConcurrentUpdateException;
 import com.ostia.productcatalogservice.exception.EntityAlreadyExistsException;
 import com.ostia.productcatalogservice.exception.EntityNotFoundException;
+import com.ostia.productcatalogservice.exception.PreconditionFailedException;
 import com.ostia.productcatalogservice.mapper.DomainMapper;
 import com.ostia.productcatalogservice.model.Category;
 import com.ostia.productcatalogservice.repository.CategoryRepository;
@@ -14,11 +18,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +39,9 @@ public class CategoryServiceTest {
     @Mock
     CategoryRepository categoryRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     CategoryService categoryService;
 
@@ -45,7 +54,7 @@ public class CategoryServiceTest {
 
         try (MockedStatic<DomainMapper> mockMapper = mockStatic(DomainMapper.class)) {
             mockMapper.when(() -> DomainMapper.DTOToEntity(dto)).thenReturn(entity);
-            when(categoryRepository.existsByName("Books")).thenReturn(false);
+            when(categoryRepository.existsByNameIgnoreCase("Books")).thenReturn(false);
             when(categoryRepository.save(entity)).thenReturn(entity);
 
             // When
@@ -69,7 +78,7 @@ public class CategoryServiceTest {
         // Mock static mapping
         try (MockedStatic<DomainMapper> mockedMapper = mockStatic(DomainMapper.class)) {
             mockedMapper.when(() -> DomainMapper.DTOToEntity(dto)).thenReturn(category);
-            when(categoryRepository.existsByName("Books")).thenReturn(true);
+            when(categoryRepository.existsByNameIgnoreCase("Books")).thenReturn(true);
 
             // When + Then
             assertThatThrownBy(() -> categoryService.addCategory(dto))
@@ -83,64 +92,116 @@ public class CategoryServiceTest {
     @Test
     void shouldGetCategoryWhenCategoryExists() {
         // Given
-        Category category = new Category();
-        category.setName("Books");
-        category.setDescription("Books desc");
-
-        CategoryDTO dto = DomainMapper.EntityToDTO(category);
-
-        try (MockedStatic<DomainMapper> mockMapper = mockStatic(DomainMapper.class)) {
-            mockMapper.when(() -> DomainMapper.EntityToDTO(category)).thenReturn(dto);
-            when(categoryRepository.existsByName("Books")).thenReturn(true);
-            when(categoryRepository.findByName("Books")).thenReturn(category);
+        when(categoryRepository.findVersionedByNameIgnoreCase("Books"))
+                .thenReturn(Optional.of(new VersionedCategoryDTO(UUID.randomUUID(), "Books", "Books desc", 0, Instant.now())));
 
-            // When
-            var retrievedCategory = categoryService.getCategory("Books");
+        // When
+        var retrievedCategory = categoryService.getCategory("Books");
 
-            // Then
-            assertThat(retrievedCategory).isNotNull();
-            assertThat(retrievedCategory.name()).isEqualTo("Books");
-            assertThat(retrievedCategory.description()).isEqualTo("Books desc");
+        // Then
+        assertThat(retrievedCategory).isNotNull();
+        assertThat(retrievedCategory.name()).isEqualTo("Books");
+        assertThat(retrievedCategory.description()).isEqualTo("Books desc");
 
-            verify(categoryRepository).existsByName("Books");
-            verify(categoryRepository).findByName("Books");
-        }
+        verify(categoryRepository).findVersionedByNameIgnoreCase("Books");
+        verify(categoryRepository, never()).existsByNameIgnoreCase(any());
     }
 
     @Test
     void shouldThrowEntityNotFoundExceptionWhenCategoryDoesNotExist() {
         // Given
         String categoryName = "Books";
-        when(categoryRepository.existsByName(categoryName)).thenReturn(false);
+        when(categoryRepository.findVersionedByNameIgnoreCase(categoryName)).thenReturn(Optional.empty());
 
         // When + Then
         assertThatThrownBy(() -> categoryService.getCategory(categoryName))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("Category entity with name 'Books' does not exist");
 
-        verify(categoryRepository).existsByName(categoryName);
-        verify(categoryRepository, never()).findByName(any());
+        verify(categoryRepository).findVersionedByNameIgnoreCase(categoryName);
     }
 
     @Test
-    void shouldUpdateCategoryDescription() {
+    void shouldDeleteCategoryWithBulkDeleteAndPublishStoredName() {
         // Given
-        String name = "Books";
-        Category category = new Category();
-        category.setId(UUID.randomUUID());
-        category.setName(name);
-        category.setDescription("Old description");
+        var current = new VersionedCategoryDTO(UUID.randomUUID(), "Books", "Reading", 2, Instant.EPOCH);
+        when(categoryRepository.findVersionedByNameIgnoreCase("books")).thenReturn(Optional.of(current));
+        when(categoryRepository.bulkDeleteByNameIgnoreCase("books")).thenReturn(1);
+
+        // When
+        categoryService.deleteCategory("books", null);
 
-        when(categoryRepository.findByNameIgnoreCase(name)).thenReturn(Optional.of(category));
+        // Then
+        verify(categoryRepository).bulkDeleteByNameIgnoreCase("books");
+        verify(categoryRepository, never()).existsByNameIgnoreCase(any());
+        verify(eventPublisher).publishEvent(CategoryChangedEvent.deleted("Books"));
+    }
 
-        UpdateCategoryDTO updateDTO = new UpdateCategoryDTO("New updated description");
+    @Test
+    void shouldThrowEntityNotFoundExceptionWhenDeletingMissingCategory() {
+        // Given
+        when(categoryRepository.findVersionedByNameIgnoreCase("Books")).thenReturn(Optional.empty());
+
+        // When + Then
+        assertThatThrownBy(() -> categoryService.deleteCategory("Books", null))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Category entity with name 'Books' does not exist");
+        verify(categoryRepository, never()).bulkDeleteByNameIgnoreCase(any());
+    }
+
+    @Test
+    void shouldUpdateCategoryDescription() {
+        // Given
+        UUID id = UUID.randomUUID();
+        var current = new VersionedCategoryDTO(id, "Books", "Old description", 2, Instant.EPOCH);
+        when(categoryRepository.findVersionedByNameIgnoreCase("books")).thenReturn(Optional.of(current));
+        when(categoryRepository.updateDescription(eq(id), eq("New updated description"), eq(2), any())).thenReturn(1);
 
         // When
-        categoryService.updateCategory(name, updateDTO);
+        categoryService.updateCategory("books", new UpdateCategoryDTO("New updated description"), null);
 
         // Then
-        assertThat(category.getDescription()).isEqualTo("New updated description");
-        verify(categoryRepository).save(category);
+        verify(categoryRepository, never()).findByNameIgnoreCase(any());
+        verify(eventPublisher).publishEvent(CategoryChangedEvent.updated("Books", "New updated description"));
+    }
+
+    @Test
+    void shouldRejectUpdateWhenExpectedVersionIsStale() {
+        // Given
+        var current = new VersionedCategoryDTO(UUID.randomUUID(), "Books", "Old description", 0, Instant.EPOCH);
+        when(categoryRepository.findVersionedByNameIgnoreCase("Books")).thenReturn(Optional.of(current));
+
+        // When + Then
+        assertThatThrownBy(() -> categoryService.updateCategory("Books", new UpdateCategoryDTO("New"), 3))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(categoryRepository, never()).updateDescription(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void shouldReportConcurrentUpdateWhenVersionedUpdateMatchesNoRow() {
+        // Given
+        var current = new VersionedCategoryDTO(UUID.randomUUID(), "Books", "Old description", 0, Instant.EPOCH);
+        when(categoryRepository.findVersionedByNameIgnoreCase("Books")).thenReturn(Optional.of(current));
+        when(categoryRepository.updateDescription(any(), any(), anyInt(), any())).thenReturn(0);
+
+        // When + Then
+        assertThatThrownBy(() -> categoryService.updateCategory("Books", new UpdateCategoryDTO("New"), null))
+                .isInstanceOf(ConcurrentUpdateException.class);
+        assertThatThrownBy(() -> categoryService.updateCategory("Books", new UpdateCategoryDTO("New"), 0))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldRejectDeleteWhenExpectedVersionIsStale() {
+        // Given
+        var current = new VersionedCategoryDTO(UUID.randomUUID(), "Books", "Reading", 2, Instant.EPOCH);
+        when(categoryRepository.findVersionedByNameIgnoreCase("Books")).thenReturn(Optional.of(current));
+
+        // When + Then
+        assertThatThrownBy(() -> categoryService.deleteCategory("Books", 3))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(categoryRepository, never()).bulkDeleteByNameIgnoreCaseAndVersion(any(), anyInt());
     }
 
     @Test
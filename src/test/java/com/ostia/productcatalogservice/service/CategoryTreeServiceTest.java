@@ -0,0 +1,126 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.dto.CategoryNodeDTO;
+import com.ostia.productcatalogservice.exception.InvalidCategoryMoveException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CategoryService.class, CategoryTreeService.class})
+class CategoryTreeServiceTest {
+
+    @Autowired
+    private CategoryTreeService categoryTreeService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Electronics > Video Games > Music
+        categoryTreeService.moveCategory("Video Games", "Electronics");
+        categoryTreeService.moveCategory("Music", "Video Games");
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldLoadWholeSubtreeWithoutRecursion() {
+        // When
+        var descendants = categoryTreeService.getDescendants("electronics", 64, 500);
+
+        // Then
+        assertThat(descendants).extracting(CategoryNodeDTO::name).containsExactly("Video Games", "Music");
+        assertThat(descendants).extracting(CategoryNodeDTO::depth).containsExactly(1, 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLimitSubtreeDepth() {
+        // When
+        var children = categoryTreeService.getDescendants("Electronics", 1, 500);
+
+        // Then
+        assertThat(children).extracting(CategoryNodeDTO::name).containsExactly("Video Games");
+    }
+
+    @Test
+    void shouldCapSubtreeSizeKeepingShallowestNodes() {
+        // When
+        var capped = categoryTreeService.getDescendants("Electronics", 64, 1);
+
+        // Then
+        assertThat(capped).extracting(CategoryNodeDTO::name).containsExactly("Video Games");
+    }
+
+    @Test
+    void shouldReturnBreadcrumbFromRoot() {
+        // When
+        var ancestors = categoryTreeService.getAncestors("Music");
+
+        // Then
+        assertThat(ancestors).extracting(CategoryNodeDTO::name).containsExactly("Electronics", "Video Games");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMoveSubtreeWithConstantNumberOfStatements() {
+        // When
+        categoryTreeService.moveCategory("Video Games", "Books");
+        entityManager.clear();
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(categoryTreeService.getAncestors("Music"))
+                .extracting(CategoryNodeDTO::name)
+                .containsExactly("Books", "Video Games");
+        assertThat(categoryTreeService.getDescendants("Electronics", 64, 500)).isEmpty();
+    }
+
+    @Test
+    void shouldMoveSubtreeBackToRoot() {
+        // When
+        categoryTreeService.moveCategory("Video Games", null);
+        entityManager.clear();
+
+        // Then
+        assertThat(categoryTreeService.getAncestors("Music"))
+                .extracting(CategoryNodeDTO::name)
+                .containsExactly("Video Games");
+    }
+
+    @Test
+    void shouldRejectMovingCategoryUnderItsOwnDescendant() {
+        // When + Then
+        assertThatThrownBy(() -> categoryTreeService.moveCategory("Electronics", "Music"))
+                .isInstanceOf(InvalidCategoryMoveException.class);
+    }
+
+    @Test
+    void shouldRefuseToDeleteCategoryWithSubcategories() {
+        // When + Then
+        assertThatThrownBy(() -> categoryService.deleteCategory("Electronics", null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ostia.productcatalogservice.service;
+
+import com.ostia.productcatalogservice.dto.ProductDTO;
+import com.ostia.productcatalogservice.model.Product;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import com.ostia.productcatalogservice.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ProductService.class)
+class ProductServiceQueryCountTest {
+
+    private static final int PRODUCT_COUNT = 150;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        var categories = categoryRepository.findAll();
+        productRepository.saveAll(IntStream.range(0, PRODUCT_COUNT)
+                .mapToObj(i -> {
+                    var product = new Product();
+                    product.setName("Product %03d".formatted(i));
+                    product.setDescription("Generated product " + i);
+                    product.setPrice(BigDecimal.valueOf(i));
+                    product.setCategories(new HashSet<>(List.of(
+                            categories.get(i % categories.size()),
+                            categories.get((i + 1) % categories.size()))));
+                    return product;
+                })
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 100})
+    void shouldListProductsWithConstantNumberOfQueries(int pageSize) {
+        // When
+        var page = productService.getAllProducts(PageRequest.of(0, pageSize, Sort.by("name")));
+
+        // Then: page select + count + one batched category fetch
+        assertThat(page.getContent()).hasSize(pageSize);
+        assertThat(page.getContent()).allSatisfy(product -> assertThat(product.categories()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldGetProductWithCategoriesInSingleQuery() {
+        // When
+        ProductDTO product = productService.getProduct("product 007");
+
+        // Then
+        assertThat(product.categories()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
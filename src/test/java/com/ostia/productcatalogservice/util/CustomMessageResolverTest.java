@@ -0,0 +1,55 @@
+package com.ostia.productcatalogservice.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomMessageResolverTest {
+
+    private final StaticMessageSource messageSource = new StaticMessageSource();
+    private final CustomMessageResolver messages = new CustomMessageResolver(messageSource);
+
+    @BeforeEach
+    void setUp() {
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        messageSource.addMessage("error.entity.notfound", Locale.ENGLISH, "{0} with {1} {2} does not exist.");
+        messageSource.addMessage("error.entity.notfound", Locale.FRENCH, "{0} avec {1} {2} n''existe pas.");
+        messageSource.addMessage("log.thread.pinned", Locale.ENGLISH, "Pinned for {} ms at {}");
+        messageSource.addMessage("error.count", Locale.ENGLISH, "{0} categories");
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void shouldFormatLikeMessageFormat() {
+        assertThat(messages.get("error.entity.notfound", "Category", "name", "Books"))
+                .isEqualTo("Category with name Books does not exist.");
+        assertThat(messages.get("error.count", 1200)).isEqualTo("1,200 categories");
+    }
+
+    @Test
+    void shouldReturnRawPatternWithoutArguments() {
+        assertThat(messages.get("log.thread.pinned")).isEqualTo("Pinned for {} ms at {}");
+    }
+
+    @Test
+    void shouldKeepTemplatesPerLocale() {
+        // Given
+        messages.get("error.entity.notfound", "Category", "name", "Books");
+
+        // When
+        LocaleContextHolder.setLocale(Locale.FRENCH);
+
+        // Then
+        assertThat(messages.get("error.entity.notfound", "Catégorie", "nom", "Livres"))
+                .isEqualTo("Catégorie avec nom Livres n'existe pas.");
+    }
+}
@@ -0,0 +1,26 @@
+package com.ostia.productcatalogservice.util;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final LogSampler sampler = new LogSampler(2, nanos::get);
+
+    @Test
+    void shouldDropLinesBeyondTheRateAndReportThemInTheNextWindow() {
+        // When / Then
+        assertThat(sampler.tryAcquire()).isZero();
+        assertThat(sampler.tryAcquire()).isZero();
+        assertThat(sampler.tryAcquire()).isEqualTo(-1);
+        assertThat(sampler.tryAcquire()).isEqualTo(-1);
+
+        nanos.addAndGet(1_000_000_000L);
+        assertThat(sampler.tryAcquire()).isEqualTo(2);
+        assertThat(sampler.tryAcquire()).isZero();
+        assertThat(sampler.tryAcquire()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ostia.productcatalogservice.warmup;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.ostia.productcatalogservice.dto.VersionedCategoryDTO;
+import com.ostia.productcatalogservice.repository.CategoryRepository;
+import com.ostia.productcatalogservice.representation.CategoryRepresentationCache;
+import com.ostia.productcatalogservice.search.CategorySearchIndex;
+import com.ostia.productcatalogservice.service.CategoryService;
+import com.ostia.productcatalogservice.util.CustomMessageResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static com.ostia.productcatalogservice.common.CacheNames.CATEGORIES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogWarmUpTest {
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final CategoryService categoryService = mock(CategoryService.class);
+    private final CategoryRepresentationCache representationCache = mock(CategoryRepresentationCache.class);
+    private final CategorySearchIndex searchIndex = mock(CategorySearchIndex.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CATEGORIES);
+    private final ApplicationInfoManager eurekaInstance = mock(ApplicationInfoManager.class);
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldCacheCategoriesBeforeAcceptingTraffic() {
+        // Given
+        var categories = IntStream.range(0, 5).mapToObj(CatalogWarmUpTest::category).toList();
+        when(categoryRepository.findVersionedBy(any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(0);
+            int from = (int) Math.min(pageable.getOffset(), categories.size());
+            return categories.subList(from, Math.min(from + pageable.getPageSize(), categories.size()));
+        });
+
+        // When
+        warmUp(true).run(null);
+
+        // Then
+        assertThat(cacheManager.getCache(CATEGORIES).get("category 4", VersionedCategoryDTO.class))
+                .isEqualTo(categories.get(4));
+        verify(representationCache, times(5)).preload(any());
+        verify(categoryService).getCatalogVersion();
+
+        InOrder status = inOrder(eurekaInstance, searchIndex);
+        status.verify(eurekaInstance).setInstanceStatus(InstanceStatus.OUT_OF_SERVICE);
+        status.verify(searchIndex).rebuild();
+        status.verify(eurekaInstance).setInstanceStatus(InstanceStatus.UP);
+        assertThat(readinessStates()).containsExactly(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(meterRegistry.get("catalog.warmup.duration").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAcceptTrafficWhenWarmUpFails() {
+        // Given
+        when(categoryRepository.findVersionedBy(any(Pageable.class))).thenThrow(new IllegalStateException("db down"));
+
+        // When
+        warmUp(true).run(null);
+
+        // Then
+        verify(eurekaInstance).setInstanceStatus(InstanceStatus.UP);
+        assertThat(readinessStates()).endsWith(ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(meterRegistry.get("catalog.warmup.duration").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyMarkAvailableWhenDisabled() {
+        // When
+        warmUp(false).run(null);
+
+        // Then
+        verify(eurekaInstance).setInstanceStatus(InstanceStatus.UP);
+        verify(categoryRepository, times(0)).findVersionedBy(any());
+        assertThat(readinessStates()).containsExactly(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    private CatalogWarmUp warmUp(boolean enabled) {
+        var messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        var beanFactory = new StaticListableBeanFactory(Map.of("eurekaInstance", eurekaInstance));
+        return new CatalogWarmUp(categoryRepository, categoryService, representationCache, searchIndex, cacheManager,
+                events::add, beanFactory.getBeanProvider(ApplicationInfoManager.class),
+                new CustomMessageResolver(messageSource), meterRegistry, mock(PlatformTransactionManager.class),
+                enabled, 10, 2, 2);
+    }
+
+    private List<Object> readinessStates() {
+        return events.stream()
+                .filter(AvailabilityChangeEvent.class::isInstance)
+                .map(event -> ((AvailabilityChangeEvent<?>) event).getState())
+                .map(Object.class::cast)
+                .toList();
+    }
+
+    private static VersionedCategoryDTO category(int i) {
+        return new VersionedCategoryDTO(UUID.randomUUID(), "Category " + i, "Generated " + i, 0, Instant.EPOCH);
+    }
+}